@@ -0,0 +1,110 @@
+package com.springapplication.studybuddyapp.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Requests per second from {@value #CLIENTS} concurrent clients against a running application, to
+ * compare Tomcat's platform thread pool with {@code spring.threads.virtual.enabled=true} (start the
+ * app once each way, otherwise identical). Each invocation sends one request per client and waits
+ * for all of them.
+ * <p>
+ * {@code login} posts to {@code /auth/login}; {@code users} reads a page of {@code /api/users} with
+ * HTTP Basic. The {@code reactive-} variants hit the same operations under {@code /reactive}
+ * (start the app with {@code app.reactive.enabled=true}), so one run compares both stacks side by
+ * side. Needs an existing user and login rate limits off
+ * ({@code app.security.rate-limit.enabled=false}); point it at the app with
+ * {@code -jvmArgs "-Dbench.app.url=... -Dbench.app.email=... -Dbench.app.password=..."}.
+ * Non-2xx answers do not stop the run: they are reported as the {@code rejected} (429/503) and
+ * {@code failed} secondary results next to {@code ok}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 20)
+@Fork(1)
+public class ConcurrentLoadBenchmark {
+
+    static final int CLIENTS = 2_000;
+
+    /** Response classes per measurement iteration. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long ok;
+        public long rejected;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ok = 0;
+            rejected = 0;
+            failed = 0;
+        }
+    }
+
+    @Param({"login", "users", "reactive-login", "reactive-users"})
+    public String endpoint;
+
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.app.url", "http://localhost:8080");
+        String email = System.getProperty("bench.app.email", "bench@example.com");
+        String password = System.getProperty("bench.app.password", "Str0ng!Passw0rd");
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        boolean reactive = endpoint.startsWith("reactive-");
+        request = switch (endpoint) {
+            case "login", "reactive-login" -> HttpRequest.newBuilder(URI.create(url + (reactive ? "/reactive" : "") + "/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                    .build();
+            case "users", "reactive-users" -> HttpRequest.newBuilder(
+                            URI.create(url + (reactive ? "/reactive/users" : "/api/users") + "?size=20"))
+                    .header("Authorization", basic(email, password))
+                    .GET()
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown endpoint " + endpoint);
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CLIENTS)
+    public void wave(Outcomes outcomes) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Integer>[] calls = new CompletableFuture[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            calls[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> error != null ? -1 : response.statusCode());
+        }
+        for (CompletableFuture<Integer> call : calls) {
+            int status = call.join();
+            if (status >= 200 && status < 300) {
+                outcomes.ok++;
+            } else if (status == 429 || status == 503) {
+                outcomes.rejected++;
+            } else {
+                outcomes.failed++;
+            }
+        }
+    }
+
+    private static String basic(String email, String password) {
+        return "Basic " + Base64.getEncoder().encodeToString((email + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
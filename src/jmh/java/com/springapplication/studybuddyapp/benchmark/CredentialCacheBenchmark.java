@@ -0,0 +1,58 @@
+package com.springapplication.studybuddyapp.benchmark;
+
+import com.springapplication.studybuddyapp.security.CredentialCachingAuthenticationProvider;
+import com.springapplication.studybuddyapp.security.VerifiedCredentialCache;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+/**
+ * Authentications per second for a repeated HTTP Basic credential, with and without the
+ * verified-credential cache. Both managers use the production BCrypt strength.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class CredentialCacheBenchmark {
+
+    private static final String EMAIL = "alice@example.com";
+    private static final String PASSWORD = "S3cret!pass";
+
+    private AuthenticationManager daoOnly;
+    private AuthenticationManager cached;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager(
+                User.withUsername(EMAIL).password(encoder.encode(PASSWORD)).authorities("ROLE_USER").build());
+
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(encoder);
+        dao.setUserDetailsService(users);
+
+        daoOnly = new ProviderManager(dao);
+        cached = new ProviderManager(new CredentialCachingAuthenticationProvider(
+                dao, new VerifiedCredentialCache(10_000, Duration.ofMinutes(1)), users));
+    }
+
+    @Benchmark
+    public Authentication daoOnly() {
+        return daoOnly.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+    }
+
+    @Benchmark
+    public Authentication withCredentialCache() {
+        return cached.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+    }
+}
@@ -0,0 +1,145 @@
+package com.springapplication.studybuddyapp.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Time to insert 10k users through Hibernate with IDENTITY ids (every insert runs alone) and with
+ * pooled sequence ids (inserts are JDBC-batched and rewritten into multi-row INSERTs). Both use the
+ * application's batching settings; only the id strategy differs.
+ * <p>
+ * Needs a reachable PostgreSQL; it works in its own {@code jmh_bench} schema. Connection defaults
+ * match application.properties and can be overridden with {@code -jvmArgs -Dbench.db.url=...}
+ * (also {@code bench.db.user}, {@code bench.db.password}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UserInsertBenchmark {
+
+    private static final int USERS = 10_000;
+    private static final int BATCH_SIZE = 50;
+    private static final String SCHEMA = "jmh_bench";
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5432/studybuddy"));
+        dataSource.setUsername(System.getProperty("bench.db.user", "studybuddy_user"));
+        dataSource.setPassword(System.getProperty("bench.db.password", "securepassword"));
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+        try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+            st.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        }
+        Configuration config = new Configuration()
+                .addAnnotatedClass(IdentityUser.class)
+                .addAnnotatedClass(PooledUser.class)
+                .setProperty(AvailableSettings.DEFAULT_SCHEMA, SCHEMA)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.SHOW_SQL, "false");
+        config.getProperties().put(AvailableSettings.DATASOURCE, dataSource);
+        sessions = config.buildSessionFactory();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws Exception {
+        try (Connection c = dataSource.getConnection(); Statement st = c.createStatement()) {
+            st.execute("TRUNCATE " + SCHEMA + ".bench_identity_users, " + SCHEMA + ".bench_pooled_users");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessions.close();
+        dataSource.close();
+    }
+
+    /** Before: IDENTITY forces an immediate INSERT ... RETURNING per entity, so batching is off. */
+    @Benchmark
+    public void identityIds() {
+        insert(IdentityUser::new);
+    }
+
+    /** After: ids come from the sequence 50 at a time, inserts go out as batches. */
+    @Benchmark
+    public void pooledSequenceIds() {
+        insert(PooledUser::new);
+    }
+
+    private void insert(IntFunction<Object> factory) {
+        try (Session session = sessions.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < USERS; i++) {
+                session.persist(factory.apply(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_identity_users")
+    public static class IdentityUser {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+        @Column(nullable = false) String name;
+        @Column(nullable = false, unique = true) String email;
+        @Column(nullable = false) String passwordHash = "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm";
+        @Column(nullable = false) LocalDateTime createdAt = LocalDateTime.now();
+
+        protected IdentityUser() {}
+
+        IdentityUser(int i) {
+            name = "User " + i;
+            email = "identity" + i + "@example.com";
+        }
+    }
+
+    @Entity
+    @Table(name = "bench_pooled_users")
+    public static class PooledUser {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_pooled_users_id")
+        @SequenceGenerator(name = "bench_pooled_users_id", sequenceName = "bench_pooled_users_id_seq", allocationSize = 50)
+        Long id;
+        @Column(nullable = false) String name;
+        @Column(nullable = false, unique = true) String email;
+        @Column(nullable = false) String passwordHash = "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm";
+        @Column(nullable = false) LocalDateTime createdAt = LocalDateTime.now();
+
+        protected PooledUser() {}
+
+        PooledUser(int i) {
+            name = "User " + i;
+            email = "pooled" + i + "@example.com";
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.springapplication.studybuddyapp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springapplication.studybuddyapp.api.dto.UserPageResponse;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.model.User;
+import com.springapplication.studybuddyapp.model.UserRole;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Cost of turning users into API responses for one page: role extraction from the entity
+ * ({@code User.getRoles()}), entity to {@link UserResponse} mapping, and Jackson serialization of
+ * a {@link UserPageResponse} with the ObjectMapper settings Spring Boot uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class UserMappingBenchmark {
+
+    /** Default and maximum page size of GET /api/users. */
+    @Param({"50", "200"})
+    public int pageSize;
+
+    private List<User> users;
+    private List<UserResponse> responses;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        Role userRole = new Role("ROLE_USER");
+        Role adminRole = new Role("ROLE_ADMIN");
+        users = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            User u = new User();
+            u.setId((long) i + 1);
+            u.setName("Student " + i);
+            u.setEmail("student" + i + "@school.example");
+            u.setPasswordHash("{bcrypt}$2a$10$abcdefghijklmnopqrstuv");
+            u.setCreatedAt(LocalDateTime.of(2025, 1, 1, 12, 0).plusMinutes(i));
+            u.getUserRoles().add(new UserRole(u, userRole));
+            if (i % 10 == 0) {
+                u.getUserRoles().add(new UserRole(u, adminRole));
+            }
+            users.add(u);
+        }
+        responses = toResponses();
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public int getRoles() {
+        int n = 0;
+        for (User u : users) {
+            n += u.getRoles().size();
+        }
+        return n;
+    }
+
+    @Benchmark
+    public List<UserResponse> entityToResponse() {
+        return toResponses();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new UserPageResponse(responses, "aTo1MA"));
+    }
+
+    /** The mapping the controller used to do per entity before responses were built in SQL. */
+    private List<UserResponse> toResponses() {
+        List<UserResponse> out = new ArrayList<>(users.size());
+        for (User u : users) {
+            Set<String> roles = u.getUserRoles().stream()
+                    .map(ur -> ur.getRole().getName())
+                    .collect(Collectors.toSet());
+            out.add(new UserResponse(u.getId(), u.getName(), u.getEmail(), roles, u.getCreatedAt()));
+        }
+        return out;
+    }
+}
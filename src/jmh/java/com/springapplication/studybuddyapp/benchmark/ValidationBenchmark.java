@@ -0,0 +1,122 @@
+package com.springapplication.studybuddyapp.benchmark;
+
+import com.springapplication.studybuddyapp.api.dto.SignupRequest;
+import com.springapplication.studybuddyapp.api.validation.FieldMatch;
+import com.springapplication.studybuddyapp.api.validation.FieldMatchValidator;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Per-call cost of the checks every signup runs before any hashing: {@link PasswordPolicy} against
+ * the lookahead regex it replaced, {@link FieldMatchValidator} on a password/confirmation pair
+ * against the per-call bean introspection it replaced, and full Bean Validation of a
+ * {@link SignupRequest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ValidationBenchmark {
+
+    /** Shape of the form objects {@link FieldMatch} is meant for. */
+    @FieldMatch(first = "password", second = "passwordConfirm")
+    public static class PasswordPair {
+        private final String password;
+        private final String passwordConfirm;
+
+        PasswordPair(String password, String passwordConfirm) {
+            this.password = password;
+            this.passwordConfirm = passwordConfirm;
+        }
+
+        public String getPassword() { return password; }
+        public String getPasswordConfirm() { return passwordConfirm; }
+    }
+
+    /** The regex {@code AuthService} used before {@link PasswordPolicy}; each lookahead rescans the input. */
+    private static final Pattern STRONG_PASSWORD = Pattern.compile(
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[~!@#$%^&*()_+\\-={}\\[\\]|:;\"'<>,.?/]).{8,72}$"
+    );
+
+    @Param({"Str0ng!Passw0rd", "weakpassword-but-long-enough-to-scan"})
+    public String password;
+
+    private PasswordPolicy policy;
+    private FieldMatchValidator fieldMatch;
+    private PasswordPair pair;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private SignupRequest request;
+
+    @Setup
+    public void setUp() {
+        policy = PasswordPolicy.defaults();
+
+        fieldMatch = new FieldMatchValidator();
+        fieldMatch.initialize(PasswordPair.class.getAnnotation(FieldMatch.class));
+        pair = new PasswordPair(password, password);
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        request = new SignupRequest();
+        request.setName("Alice Example");
+        request.setEmail("alice@example.com");
+        request.setPassword(password);
+        request.setPasswordConfirm(password);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean strongPasswordRegex() {
+        return STRONG_PASSWORD.matcher(password).matches();
+    }
+
+    /** Same verdict as the regex, but one pass, no allocation and every failed rule in the result. */
+    @Benchmark
+    public int passwordPolicyCheck() {
+        return policy.check(password);
+    }
+
+    /** Matching values, so the validator never touches the (null) context. */
+    @Benchmark
+    public boolean fieldMatchIsValid() {
+        return fieldMatch.isValid(pair, null);
+    }
+
+    /** What {@link FieldMatchValidator} did before caching generated getters: introspect and invoke per call. */
+    @Benchmark
+    public boolean fieldMatchIntrospection() throws Exception {
+        Object first = null;
+        Object second = null;
+        for (PropertyDescriptor pd : Introspector.getBeanInfo(pair.getClass()).getPropertyDescriptors()) {
+            if (pd.getName().equals("password")) {
+                first = pd.getReadMethod().invoke(pair);
+            }
+            if (pd.getName().equals("passwordConfirm")) {
+                second = pd.getReadMethod().invoke(pair);
+            }
+        }
+        return Objects.equals(first, second);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SignupRequest>> signupRequestValidation() {
+        return validator.validate(request);
+    }
+}
@@ -2,12 +2,20 @@ package com.springapplication.studybuddyapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class StudyBuddyAppApplication {
 
+    /** Startup steps kept for /actuator/startup; later steps are dropped once full. */
+    static final int STARTUP_STEPS = 10_000;
+
     public static void main(String[] args) {
-        SpringApplication.run(StudyBuddyAppApplication.class, args);
+        SpringApplication app = new SpringApplication(StudyBuddyAppApplication.class);
+        app.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+        app.run(args);
     }
 
 }
@@ -4,8 +4,14 @@ package com.springapplication.studybuddyapp.api;
 import com.springapplication.studybuddyapp.exception.BadRequestException;
 import com.springapplication.studybuddyapp.exception.ConflictException;
 import com.springapplication.studybuddyapp.exception.NotFoundException;
+import com.springapplication.studybuddyapp.exception.ServiceUnavailableException;
+import com.springapplication.studybuddyapp.security.PasswordCheckUnavailableException;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Map;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -14,11 +20,14 @@ import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /** Maps exceptions to HTTP responses. */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<?> handleNotFound(NotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -31,12 +40,43 @@ public class GlobalExceptionHandler {
                 .body(error("CONFLICT", ex.getMessage()));
     }
 
-    @ExceptionHandler({BadRequestException.class, MethodArgumentNotValidException.class, BindException.class})
+    /**
+     * Unique-constraint race (e.g. two signups for one email on different nodes) is a 409. Any other
+     * integrity failure (foreign key, not-null, check) is a bug, not a client conflict, so it is a 500.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<?> handleIntegrity(DataIntegrityViolationException ex) {
+        if (!isUniqueViolation(ex)) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(error("INTERNAL_ERROR", "Data integrity violation"));
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(error("CONFLICT", "Conflicts with existing data"));
+    }
+
+    @ExceptionHandler({BadRequestException.class, MethodArgumentNotValidException.class, BindException.class,
+            MethodArgumentTypeMismatchException.class})
     public ResponseEntity<?> handleBadRequest(Exception ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(error("BAD_REQUEST", ex.getMessage()));
     }
 
+    /** Overload shedding: tell the client when to come back. */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handleUnavailable(ServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error("SERVICE_UNAVAILABLE", ex.getMessage()));
+    }
+
+    /** A login that could not be checked because the hashing pool is full is shed like a signup, not a 401. */
+    @ExceptionHandler(PasswordCheckUnavailableException.class)
+    public ResponseEntity<?> handleLoginUnavailable(PasswordCheckUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error("SERVICE_UNAVAILABLE", ex.getMessage()));
+    }
+
     /** Map authentication failures (e.g., wrong email/password) to 401. */
     @ExceptionHandler({BadCredentialsException.class, AuthenticationException.class})
     public ResponseEntity<?> handleAuth(AuthenticationException ex) {
@@ -50,6 +90,18 @@ public class GlobalExceptionHandler {
                 .body(error("INTERNAL_ERROR", ex.getMessage()));
     }
 
+    /** SQLSTATE 23505 (unique_violation) anywhere in the cause chain. */
+    private static boolean isUniqueViolation(Throwable ex) {
+        for (Throwable t = ex; t != null && t.getCause() != t; t = t.getCause()) {
+            // R2DBC has no SQLException; Spring translates its 23505 to DuplicateKeyException
+            if (t instanceof DuplicateKeyException
+                    || t instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Map<String, Object> error(String code, String message) {
         return Map.of("timestamp", Instant.now().toString(), "code", code, "message", message);
     }
@@ -0,0 +1,34 @@
+package com.springapplication.studybuddyapp.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request body to grant or revoke one role for many users. Users are picked by {@code userIds},
+ * by the filter fields ({@code hasRole}, {@code createdFrom} inclusive, {@code createdTo} exclusive),
+ * or by both combined; at least one must be given.
+ */
+public class BulkRoleChangeRequest {
+    @NotBlank
+    private String roleName;
+
+    @Size(max = 50_000)
+    private List<Long> userIds;
+
+    private String hasRole;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+
+    public String getRoleName() { return roleName; }
+    public void setRoleName(String roleName) { this.roleName = roleName; }
+    public List<Long> getUserIds() { return userIds; }
+    public void setUserIds(List<Long> userIds) { this.userIds = userIds; }
+    public String getHasRole() { return hasRole; }
+    public void setHasRole(String hasRole) { this.hasRole = hasRole; }
+    public LocalDateTime getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(LocalDateTime createdFrom) { this.createdFrom = createdFrom; }
+    public LocalDateTime getCreatedTo() { return createdTo; }
+    public void setCreatedTo(LocalDateTime createdTo) { this.createdTo = createdTo; }
+}
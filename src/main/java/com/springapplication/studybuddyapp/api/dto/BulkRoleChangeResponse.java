@@ -0,0 +1,16 @@
+package com.springapplication.studybuddyapp.api.dto;
+
+/** Outcome of a bulk grant/revoke: how many ids were sent (null for a pure filter) and how many links changed. */
+public class BulkRoleChangeResponse {
+    private final String roleName;
+    private final Integer requested;
+    private final int changed;
+
+    public BulkRoleChangeResponse(String roleName, Integer requested, int changed) {
+        this.roleName = roleName; this.requested = requested; this.changed = changed;
+    }
+
+    public String getRoleName() { return roleName; }
+    public Integer getRequested() { return requested; }
+    public int getChanged() { return changed; }
+}
@@ -1,5 +1,6 @@
 package com.springapplication.studybuddyapp.api.dto;
 
+import com.springapplication.studybuddyapp.api.validation.StrongPassword;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -16,7 +17,7 @@ public class CreateUserRequest {
     private String email;
 
     @NotBlank
-    @Size(min = 8, max = 72) // BCrypt max ~72 bytes
+    @StrongPassword
     private String password;
 
     // getters/setters
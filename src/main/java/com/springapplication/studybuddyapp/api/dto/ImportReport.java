@@ -0,0 +1,38 @@
+package com.springapplication.studybuddyapp.api.dto;
+
+import java.util.List;
+
+/** Outcome of a bulk user import: totals plus the first rejected rows. */
+public class ImportReport {
+    private final long received;
+    private final long imported;
+    private final long failed;
+    private final List<RowError> errors;
+    private final boolean errorsTruncated;
+
+    public ImportReport(long received, long imported, long failed, List<RowError> errors, boolean errorsTruncated) {
+        this.received = received; this.imported = imported; this.failed = failed;
+        this.errors = errors; this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getReceived() { return received; }
+    public long getImported() { return imported; }
+    public long getFailed() { return failed; }
+    public List<RowError> getErrors() { return errors; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+
+    /** A rejected input line (1-based, header included) and why. */
+    public static class RowError {
+        private final long line;
+        private final String email;
+        private final String message;
+
+        public RowError(long line, String email, String message) {
+            this.line = line; this.email = email; this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getEmail() { return email; }
+        public String getMessage() { return message; }
+    }
+}
@@ -1,6 +1,7 @@
 package com.springapplication.studybuddyapp.api.dto;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import com.springapplication.studybuddyapp.api.validation.StrongPassword;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -13,7 +14,7 @@ import jakarta.validation.constraints.AssertTrue;
  * <ul>
  *   <li><b>name</b>: required, 2-100 chars</li>
  *   <li><b>email</b>: required, valid email, max 150 chars</li>
- *   <li><b>password</b>: required, 8-72 chars</li>
+ *   <li><b>password</b>: required, satisfies the {@link StrongPassword} policy</li>
  *   <li><b>passwordConfirm</b>: must match password (class-level check via {@link #isPasswordConfirmed()})</li>
  * </ul>
  *
@@ -36,11 +37,11 @@ public class SignupRequest {
     private String email;
 
     /**
-     * Password rules are enforced at service too, but we require minimum length here.
-     * BCrypt safe max is 72 characters.
+     * Same {@code PasswordPolicy} the service enforces, so a bad password fails here with every
+     * broken rule listed instead of one service error.
      */
     @NotBlank
-    @Size(min = 8, max = 72)
+    @StrongPassword
     private String password;
 
     /**
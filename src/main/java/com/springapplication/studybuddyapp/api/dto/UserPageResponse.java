@@ -0,0 +1,16 @@
+package com.springapplication.studybuddyapp.api.dto;
+
+import java.util.List;
+
+/** One page of users; pass {@code nextCursor} back as {@code cursor} for the next page (null on the last). */
+public class UserPageResponse {
+    private final List<UserResponse> items;
+    private final String nextCursor;
+
+    public UserPageResponse(List<UserResponse> items, String nextCursor) {
+        this.items = items; this.nextCursor = nextCursor;
+    }
+
+    public List<UserResponse> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+}
@@ -1,16 +1,42 @@
 package com.springapplication.studybuddyapp.api.validation;
 
+import jakarta.validation.ConstraintDeclarationException;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
+import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
 import java.util.Objects;
+import java.util.function.Function;
 
+/**
+ * Checks {@link FieldMatch}. The two getters are looked up once per validated class and turned into
+ * generated {@link Function}s, so each validation is two plain calls instead of bean introspection
+ * and reflective invokes. A property with no getter is a declaration error, not an invalid value: it
+ * throws {@link ConstraintDeclarationException} on the first validation of that class.
+ * {@link FieldMatchVerifier} reports it at startup instead, but only when
+ * {@code app.validation.verify-field-match=true} (off by default, on in the context-load test).
+ */
 public class FieldMatchValidator implements ConstraintValidator<FieldMatch, Object> {
+
+    /** Generated getters for the two compared properties of one class. */
+    record Accessors(Function<Object, Object> first, Function<Object, Object> second) {}
+
     private String first;
     private String second;
+    private final ClassValue<Accessors> accessors = new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return accessors(type, first, second);
+        }
+    };
 
     @Override
     public void initialize(FieldMatch annotation) {
@@ -20,31 +46,67 @@ public class FieldMatchValidator implements ConstraintValidator<FieldMatch, Obje
 
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        Accessors getters = accessors.get(value.getClass());
+        boolean matches = Objects.equals(getters.first().apply(value), getters.second().apply(value));
+        if (!matches) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                    .addPropertyNode(second)
+                    .addConstraintViolation();
+        }
+        return matches;
+    }
+
+    /** Resolves both getters on {@code type}; throws {@link ConstraintDeclarationException} if either is missing. */
+    static Accessors accessors(Class<?> type, String first, String second) {
+        return new Accessors(getter(type, first), getter(type, second));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Class<?> type, String property) {
+        Method read = readMethod(type, property);
+        if (read == null) {
+            throw new ConstraintDeclarationException(
+                    "@FieldMatch on " + type.getName() + " names '" + property + "', which has no getter");
+        }
         try {
-            PropertyDescriptor[] pds = Introspector.getBeanInfo(value.getClass()).getPropertyDescriptors();
-            Object firstVal = null;
-            Object secondVal = null;
-            for (PropertyDescriptor pd : pds) {
-                if (pd.getName().equals(first)) {
-                    Method getter = pd.getReadMethod();
-                    firstVal = getter != null ? getter.invoke(value) : null;
-                }
-                if (pd.getName().equals(second)) {
-                    Method getter = pd.getReadMethod();
-                    secondVal = getter != null ? getter.invoke(value) : null;
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(read.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(read);
+            return (Function<Object, Object>) LambdaMetafactory.metafactory(lookup, "apply",
+                            MethodType.methodType(Function.class),
+                            MethodType.methodType(Object.class, Object.class),
+                            handle,
+                            handle.type().wrap())
+                    .getTarget()
+                    .invokeExact();
+        } catch (Throwable e) {
+            throw new ConstraintDeclarationException(
+                    "Cannot access " + type.getName() + "." + read.getName() + "() for @FieldMatch", e);
+        }
+    }
+
+    /** Bean getter ({@code getX}/{@code isX}) or record accessor for {@code property}, or null. */
+    private static Method readMethod(Class<?> type, String property) {
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.getName().equals(property)) {
+                    return component.getAccessor();
                 }
             }
-            boolean matches = Objects.equals(firstVal, secondVal);
-            if (!matches) {
-                context.disableDefaultConstraintViolation();
-                context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
-                        .addPropertyNode(second)
-                        .addConstraintViolation();
+            return null;
+        }
+        try {
+            for (PropertyDescriptor pd : Introspector.getBeanInfo(type).getPropertyDescriptors()) {
+                if (pd.getName().equals(property)) {
+                    return pd.getReadMethod();
+                }
             }
-            return matches;
-        } catch (Exception ex) {
-            return false;
+            return null;
+        } catch (IntrospectionException e) {
+            throw new ConstraintDeclarationException("Cannot introspect " + type.getName() + " for @FieldMatch", e);
         }
     }
 }
-
@@ -0,0 +1,52 @@
+package com.springapplication.studybuddyapp.api.validation;
+
+import java.util.List;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves the getters of every {@link FieldMatch} class in the application packages once the
+ * context is up, so a misspelled property name stops startup instead of failing the first request
+ * that validates that class.
+ * <p>
+ * The classpath scan costs startup time on every boot, so it only runs with
+ * {@code app.validation.verify-field-match=true} (e.g. in CI); {@link FieldMatchValidator} resolves the
+ * same getters lazily either way.
+ */
+@Component
+@ConditionalOnProperty(name = "app.validation.verify-field-match", havingValue = "true")
+public class FieldMatchVerifier implements SmartInitializingSingleton {
+
+    private final List<String> packages;
+    private final ClassLoader classLoader;
+
+    public FieldMatchVerifier(BeanFactory beanFactory) {
+        this.packages = AutoConfigurationPackages.has(beanFactory) ? AutoConfigurationPackages.get(beanFactory) : List.of();
+        this.classLoader = ClassUtils.getDefaultClassLoader();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return true; // DTOs are often nested or abstract
+            }
+        };
+        scanner.addIncludeFilter(new AnnotationTypeFilter(FieldMatch.class, false));
+        for (String pkg : packages) {
+            scanner.findCandidateComponents(pkg).forEach(candidate -> {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                FieldMatch match = type.getAnnotation(FieldMatch.class);
+                FieldMatchValidator.accessors(type, match.first(), match.second());
+            });
+        }
+    }
+}
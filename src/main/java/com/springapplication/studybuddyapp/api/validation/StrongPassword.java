@@ -0,0 +1,21 @@
+package com.springapplication.studybuddyapp.api.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+/**
+ * The annotated string must satisfy the application's
+ * {@link com.springapplication.studybuddyapp.security.PasswordPolicy}; each failed rule is reported
+ * as its own violation. Null is valid, so pair it with {@code @NotBlank}.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(validatedBy = StrongPasswordValidator.class)
+public @interface StrongPassword {
+    String message() default "Password does not meet the password policy";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
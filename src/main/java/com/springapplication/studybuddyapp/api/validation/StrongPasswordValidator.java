@@ -0,0 +1,50 @@
+package com.springapplication.studybuddyapp.api.validation;
+
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Checks {@link StrongPassword} against the {@link PasswordPolicy} bean, or the policy defaults
+ * when there is none (plain Bean Validation, test slices).
+ */
+public class StrongPasswordValidator implements ConstraintValidator<StrongPassword, CharSequence> {
+
+    private static final PasswordPolicy.Rule[] RULES = PasswordPolicy.Rule.values();
+
+    private final PasswordPolicy policy;
+
+    public StrongPasswordValidator() {
+        this(PasswordPolicy.defaults());
+    }
+
+    @Autowired
+    public StrongPasswordValidator(ObjectProvider<PasswordPolicy> policy) {
+        this(policy.getIfAvailable(PasswordPolicy::defaults));
+    }
+
+    StrongPasswordValidator(PasswordPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        if (value == null) {
+            return true;
+        }
+        int failed = policy.check(value);
+        if (failed == 0) {
+            return true;
+        }
+        context.disableDefaultConstraintViolation();
+        for (PasswordPolicy.Rule rule : RULES) {
+            if ((failed & rule.bit()) != 0) {
+                context.buildConstraintViolationWithTemplate("Password must " + policy.requirement(rule))
+                        .addConstraintViolation();
+            }
+        }
+        return false;
+    }
+}
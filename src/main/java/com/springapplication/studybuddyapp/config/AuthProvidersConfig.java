@@ -1,11 +1,34 @@
 // path: src/main/java/com/springapplication/studybuddyapp/config/AuthProvidersConfig.java
 package com.springapplication.studybuddyapp.config;
 
+import com.springapplication.studybuddyapp.exception.ServiceUnavailableException;
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.CredentialCachingAuthenticationProvider;
+import com.springapplication.studybuddyapp.security.HttpBasicAuthenticationDetails;
+import com.springapplication.studybuddyapp.security.LoginMetrics;
+import com.springapplication.studybuddyapp.security.PasswordCheckUnavailableException;
+import com.springapplication.studybuddyapp.security.TimedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.VerifiedCredentialCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.AuthenticationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.authentication.event.AuthenticationFailureServiceExceptionEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -17,26 +40,128 @@ public class AuthProvidersConfig {
 
     private final UserDetailsService userDetailsService; // provided by @Service above
     private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<BoundedPasswordEncoder> hashingEncoder;
+    private final boolean offloadLogins;
+    private final int basicMaxInFlight;
 
-    public AuthProvidersConfig(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+    /**
+     * {@code app.security.hashing.offload-logins} defaults to whether virtual threads are actually in
+     * use: {@code spring.threads.virtual.enabled} on a Java 21+ runtime (the flag is ignored on 17).
+     */
+    public AuthProvidersConfig(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                               MeterRegistry meterRegistry,
+                               @Qualifier(BoundedPasswordEncoder.BEAN_NAME) ObjectProvider<BoundedPasswordEncoder> hashingEncoder,
+                               Environment environment,
+                               @Value("${app.security.hashing.basic.max-in-flight:16}") int basicMaxInFlight) {
         this.userDetailsService = userDetailsService;
         this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.hashingEncoder = hashingEncoder;
+        this.offloadLogins = environment.getProperty("app.security.hashing.offload-logins", Boolean.class,
+                Threading.VIRTUAL.isActive(environment));
+        this.basicMaxInFlight = basicMaxInFlight;
     }
 
-    /** Authentication provider backed by the DB. */
+    /**
+     * Authentication provider backed by the DB. Hashes the encoder flags as off-target
+     * are re-encoded after a successful login. Password checks are timed as {@code password.hash}.
+     * <p>
+     * With {@code app.security.hashing.offload-logins} (on by default with virtual threads) they run
+     * on the platform-thread hashing pool, so BCrypt never occupies a virtual thread's carrier; a full
+     * queue then fails the login with {@link PasswordCheckUnavailableException} (503 with Retry-After).
+     */
     @Bean
     public DaoAuthenticationProvider daoAuthenticationProvider() {
-        DaoAuthenticationProvider p = new DaoAuthenticationProvider();
+        return daoProvider(loginPasswordEncoder());
+    }
+
+    /**
+     * Exposes AuthenticationManager for login endpoints and the filter chain.
+     * <p>
+     * HTTP Basic requests (marked by {@link HttpBasicAuthenticationDetails}) go through their own
+     * manager. When the verified-credential cache is enabled, only that manager's provider is wrapped
+     * by it: form and JSON logins always check the password. When logins are offloaded, that manager
+     * may hold at most {@code app.security.hashing.basic.max-in-flight} slots of the hashing pool, so
+     * a client re-sending Basic credentials on every call cannot fill the queue that logins and
+     * signups rely on.
+     */
+    @Bean
+    public AuthenticationManager authenticationManager(DaoAuthenticationProvider daoAuthenticationProvider,
+                                                       ObjectProvider<VerifiedCredentialCache> credentialCache,
+                                                       AuthenticationEventPublisher eventPublisher) {
+        AuthenticationManager interactive = providerManager(daoAuthenticationProvider, eventPublisher);
+        VerifiedCredentialCache cache = credentialCache.getIfAvailable();
+        BoundedPasswordEncoder hashing = offloadLogins ? hashingEncoder.getIfAvailable() : null;
+        if (cache == null && hashing == null) {
+            return interactive;
+        }
+        AuthenticationProvider basicProvider = hashing != null
+                ? daoProvider(hashing.limitedTo(basicMaxInFlight))
+                : daoAuthenticationProvider;
+        if (cache != null) {
+            basicProvider = new CredentialCachingAuthenticationProvider(basicProvider, cache, userDetailsService);
+        }
+        AuthenticationManager basic = providerManager(basicProvider, eventPublisher);
+        return authentication -> authentication.getDetails() instanceof HttpBasicAuthenticationDetails
+                ? basic.authenticate(authentication)
+                : interactive.authenticate(authentication);
+    }
+
+    /**
+     * Boot's publisher, plus a failure event for logins shed by the hashing pool (the default only maps
+     * Spring Security's own exception classes, so {@link LoginMetrics} would never see them).
+     */
+    @Bean
+    public AuthenticationEventPublisher authenticationEventPublisher(ApplicationEventPublisher publisher) {
+        DefaultAuthenticationEventPublisher events = new DefaultAuthenticationEventPublisher(publisher);
+        events.setAdditionalExceptionMappings(Map.of(
+                PasswordCheckUnavailableException.class, AuthenticationFailureServiceExceptionEvent.class));
+        return events;
+    }
+
+    /** The hashing pool's encoder when logins are offloaded (it records {@code password.hash} itself). */
+    PasswordEncoder loginPasswordEncoder() {
+        BoundedPasswordEncoder hashing = offloadLogins ? hashingEncoder.getIfAvailable() : null;
+        return hashing != null ? hashing : new TimedPasswordEncoder(passwordEncoder, meterRegistry);
+    }
+
+    private DaoAuthenticationProvider daoProvider(PasswordEncoder encoder) {
+        DaoAuthenticationProvider p = new SheddingDaoAuthenticationProvider();
         p.setUserDetailsService(userDetailsService);
-        p.setPasswordEncoder(passwordEncoder);
+        p.setPasswordEncoder(encoder);
+        if (userDetailsService instanceof UserDetailsPasswordService passwordService) {
+            p.setUserDetailsPasswordService(passwordService);
+        }
         return p;
     }
 
-    /** Exposes AuthenticationManager for login endpoints if you need it. */
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-        return config.getAuthenticationManager();
+    private static ProviderManager providerManager(AuthenticationProvider provider,
+                                                   AuthenticationEventPublisher eventPublisher) {
+        ProviderManager manager = new ProviderManager(provider);
+        manager.setAuthenticationEventPublisher(eventPublisher);
+        return manager;
     }
-}
 
+    /**
+     * Turns a full hashing queue into an {@link org.springframework.security.core.AuthenticationException},
+     * so it reaches the form-login failure handler and the Basic entry point and publishes a failure event
+     * instead of escaping the filter chain as a 500. The unknown-user check is wrapped by the parent class.
+     */
+    static class SheddingDaoAuthenticationProvider extends DaoAuthenticationProvider {
 
+        @Override
+        public Authentication authenticate(Authentication authentication) {
+            try {
+                return super.authenticate(authentication);
+            } catch (ServiceUnavailableException ex) {
+                throw new PasswordCheckUnavailableException(ex);
+            } catch (InternalAuthenticationServiceException ex) {
+                if (ex.getCause() instanceof ServiceUnavailableException busy) {
+                    throw new PasswordCheckUnavailableException(busy);
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.springapplication.studybuddyapp.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.time.Duration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * R2DBC access for the {@code /reactive} endpoints, active only with {@code app.reactive.enabled=true}.
+ * It reads and writes the same tables as the JPA/JDBC side, through its own small pool.
+ * <p>
+ * Boot's R2DBC auto-configuration is excluded in application.properties: it would fail without a
+ * URL, and its {@code ReactiveTransactionManager} bean would replace the JPA transaction manager.
+ * The R2DBC transaction manager therefore only backs the {@link TransactionalOperator}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveDataConfig implements DisposableBean {
+
+    /**
+     * Deliberately not a bean: Boot's DataSource auto-configuration backs off as soon as any
+     * {@code ConnectionFactory} bean exists, which would take JPA down with it.
+     */
+    private final ConnectionPool pool;
+
+    public ReactiveDataConfig(@Value("${app.reactive.r2dbc.url}") String url,
+                              @Value("${app.reactive.r2dbc.username:${spring.datasource.username:}}") String username,
+                              @Value("${app.reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+                              @Value("${app.reactive.r2dbc.pool.max-size:10}") int maxSize,
+                              @Value("${app.reactive.r2dbc.pool.max-acquire-time:5s}") Duration maxAcquireTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(1)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(pool);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactions() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(pool));
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,73 @@
+package com.springapplication.studybuddyapp.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Tags each request's log lines with a {@value #REQUEST_ID} and marks a sample of requests for
+ * verbose logging by setting {@value #TRACE}{@code =on} in the MDC. The prod logback
+ * configuration drops DEBUG/TRACE events unless that flag is set, so SQL statements and Spring
+ * Security tracing are written for 1 in {@code sample-rate} requests only.
+ * <p>
+ * A request is always traced when it carries the {@code header} with the configured
+ * {@code force-token}; with no token configured the header is ignored, so clients cannot flood
+ * the logs on their own.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.logging.trace.enabled", havingValue = "true")
+public class RequestLogSamplingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String TRACE = "logTrace";
+
+    private final int sampleRate;
+    private final String header;
+    private final byte[] forceToken;
+
+    public RequestLogSamplingFilter(@Value("${app.logging.trace.sample-rate:1000}") int sampleRate,
+                                    @Value("${app.logging.trace.header:X-Debug-Trace}") String header,
+                                    @Value("${app.logging.trace.force-token:}") String forceToken) {
+        this.sampleRate = sampleRate;
+        this.header = header;
+        this.forceToken = forceToken.isEmpty() ? null : forceToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        MDC.put(REQUEST_ID, Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        if (sampled(request)) {
+            MDC.put(TRACE, "on");
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID);
+            MDC.remove(TRACE);
+        }
+    }
+
+    boolean sampled(HttpServletRequest request) {
+        if (forceToken != null) {
+            String value = request.getHeader(header);
+            if (value != null && MessageDigest.isEqual(forceToken, value.getBytes(StandardCharsets.UTF_8))) {
+                return true;
+            }
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+}
@@ -1,45 +1,115 @@
 package com.springapplication.studybuddyapp.config;
 
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.CalibratedBCryptPasswordEncoder;
+import com.springapplication.studybuddyapp.security.HttpBasicAuthenticationDetails;
+import com.springapplication.studybuddyapp.security.LoginRateLimitFilter;
+import com.springapplication.studybuddyapp.security.LoginRateLimiter;
+import com.springapplication.studybuddyapp.security.PasswordCheckUnavailableResponder;
+import com.springapplication.studybuddyapp.security.SecurityInfraConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 /**
  * Session-based security:
  * - Public: "/", "/login", "/signup", static assets
  * - Protected: "/dashboard", "/groups/**"
- * - API auth endpoints (/auth/**) still permitted (JSON), with CSRF ignored for convenience.
+ * - Admin only: "/api/admin/**", bulk "/api/users/import" and "/api/users/export", "/actuator/startup",
+ *   and the meters ("/actuator/metrics/**", "/actuator/prometheus": login failure rates, pool state and
+ *   latencies are not for every self-registered user)
+ * - API auth endpoints (/auth/**, and /reactive/auth/** when enabled) still permitted (JSON), with CSRF ignored for convenience.
  * - Form login uses "email" as username parameter.
+ * - A form or Basic login shed by a full hashing pool gets 503 with Retry-After.
+ * - Login and signup POSTs are rate limited per IP and per email before any password work.
  * - Logout redirects to "/login?logout" (Thymeleaf-friendly).
+ * - With app.security.context-repository=token nothing is kept in the HTTP session:
+ *   the SecurityContext lives in a signed token and the CSRF token in a cookie.
  */
 @Configuration
 public class SecurityConfig {
 
+    /**
+     * BCrypt with a cost picked at startup to meet the latency target on this hardware.
+     * A fixed {@code app.security.bcrypt.strength} skips calibration (use it for mixed-size fleets,
+     * otherwise nodes would keep re-hashing each other's passwords).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() { return new BCryptPasswordEncoder(); }
+    @Primary
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:0}") int strength,
+                                           @Value("${app.security.bcrypt.target-latency:80ms}") Duration targetLatency,
+                                           @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${app.security.bcrypt.max-strength:16}") int maxStrength) {
+        return strength > 0
+                ? new CalibratedBCryptPasswordEncoder(strength)
+                : CalibratedBCryptPasswordEncoder.calibrate(targetLatency, minStrength, maxStrength);
+    }
+
+    /**
+     * Same encoder, but run on a core-sized pool with a bounded queue.
+     * Used by signup, user creation and password change; a full queue surfaces as 503.
+     */
+    @Bean(BoundedPasswordEncoder.BEAN_NAME)
+    public BoundedPasswordEncoder hashingPasswordEncoder(PasswordEncoder passwordEncoder,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${app.security.hashing.threads:0}") int threads,
+                                                         @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity,
+                                                         @Value("${app.security.hashing.retry-after:1s}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(passwordEncoder, poolSize, queueCapacity, retryAfter, meterRegistry);
+    }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
-                                                   AuthenticationManager authenticationManager) throws Exception {
+                                                   AuthenticationManager authenticationManager,
+                                                   SecurityContextRepository securityContextRepository,
+                                                   ObjectProvider<LoginRateLimiter> loginRateLimiter,
+                                                   ObjectMapper objectMapper,
+                                                   @Value("${app.security.context-repository:session}") String contextMode) throws Exception {
+        boolean stateless = SecurityInfraConfig.TOKEN_MODE.equalsIgnoreCase(contextMode);
+        if (stateless) {
+            http
+                    .csrf(csrf -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()))
+                    .requestCache(cache -> cache.requestCache(new NullRequestCache()));
+        }
+        PasswordCheckUnavailableResponder unavailable = new PasswordCheckUnavailableResponder(objectMapper);
+        BasicAuthenticationEntryPoint basicChallenge = new BasicAuthenticationEntryPoint();
+        basicChallenge.setRealmName("Realm");
+        loginRateLimiter.ifAvailable(limiter ->
+                http.addFilterBefore(new LoginRateLimitFilter(limiter, objectMapper), UsernamePasswordAuthenticationFilter.class));
+
         http
                 // CSRF: forms include token; JSON /auth/** may skip CSRF for convenience
-                .csrf(csrf -> csrf.ignoringRequestMatchers("/auth/**", "/logout")
+                .csrf(csrf -> csrf.ignoringRequestMatchers("/auth/**", "/reactive/auth/**", "/logout")
                         .ignoringRequestMatchers(new AntPathRequestMatcher("/signup", "POST"))
                     )
 
                 // Use our explicit AuthenticationManager (DAO provider + BCrypt)
                 .authenticationManager(authenticationManager)
 
-                .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                // Same repository AuthController saves into after /auth/login
+                .securityContext(sc -> sc.securityContextRepository(securityContextRepository))
+                .sessionManagement(sm -> sm.sessionCreationPolicy(
+                        stateless ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED))
 
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/", "/login", "/signup",
@@ -47,18 +117,26 @@ public class SecurityConfig {
                         // permit POST /login to allow the authentication attempt
                         .requestMatchers(HttpMethod.POST, "/login").permitAll()
                         // JSON auth endpoints:
-                        .requestMatchers("/auth/**").permitAll()
+                        .requestMatchers("/auth/**", "/reactive/auth/**").permitAll()
                         // protected UI
                         .requestMatchers("/dashboard", "/groups/**").authenticated()
+                        // operational endpoints
+                        .requestMatchers("/api/admin/**", "/api/users/import", "/api/users/export", "/actuator/startup",
+                                "/actuator/metrics", "/actuator/metrics/**", "/actuator/prometheus").hasAnyAuthority("ROLE_ADMIN", "ADMIN")
                         .anyRequest().authenticated()
                 )
-                .httpBasic(Customizer.withDefaults())
+                // a login shed by the hashing pool answers 503 + Retry-After instead of 401 / ?error
+                .httpBasic(basic -> basic
+                        .authenticationDetailsSource(HttpBasicAuthenticationDetails.source())
+                        .authenticationEntryPoint(unavailable.entryPoint(basicChallenge))
+                )
                 .formLogin(form -> form
                         .loginPage("/login").permitAll()
                         .loginProcessingUrl("/login")      // filter listens here
                         .usernameParameter("email")        // <— IMPORTANT: matches your form/tests
                         .passwordParameter("password")
                         .defaultSuccessUrl("/dashboard", true)
+                        .failureHandler(unavailable.failureHandler(new SimpleUrlAuthenticationFailureHandler("/login?error")))
                 )
                 .logout(logout -> logout
                         .logoutUrl("/logout")
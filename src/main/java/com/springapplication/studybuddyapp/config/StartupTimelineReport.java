@@ -0,0 +1,61 @@
+package com.springapplication.studybuddyapp.config;
+
+import java.util.Comparator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs the slowest bean instantiations once the application is ready, from the timeline that
+ * {@code StudyBuddyAppApplication} buffers. The full timeline stays available at
+ * {@code /actuator/startup} (admins only); together with the {@code application.ready.time} gauge
+ * that is enough to spot which bean made startup slower.
+ */
+@Component
+public class StartupTimelineReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    static final String BEAN_STEP = "spring.beans.instantiate";
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineReport.class);
+
+    private final int top;
+
+    public StartupTimelineReport(@Value("${app.startup.report.top:10}") int top) {
+        this.top = top;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (top <= 0 || !(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        log.info("Ready in {} ms (timeline at /actuator/startup); slowest beans, including their dependencies:\n{}",
+                event.getTimeTaken().toMillis(), String.join("\n", slowestBeans(startup.getBufferedTimeline(), top)));
+    }
+
+    /** "{@code <millis> ms  <bean name>}" for the {@code top} longest bean instantiations, slowest first. */
+    static List<String> slowestBeans(StartupTimeline timeline, int top) {
+        return timeline.getEvents().stream()
+                .filter(e -> BEAN_STEP.equals(e.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(top)
+                .map(e -> "\t" + e.getDuration().toMillis() + " ms  " + beanName(e.getStartupStep()))
+                .toList();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,108 @@
+package com.springapplication.studybuddyapp.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams the JDK's {@value #PINNED_EVENT} JFR events while requests run on virtual threads. A
+ * pinned virtual thread keeps its carrier busy while it blocks (e.g. I/O inside {@code synchronized}
+ * or a native frame), which quietly turns the carrier pool back into a small platform pool.
+ * <p>
+ * Every pin longer than {@code threshold} is timed as {@code jvm.threads.virtual.pinned}; the
+ * first pin from each distinct stack is logged at WARN with its top frames, repeats at DEBUG.
+ * Only active with {@code spring.threads.virtual.enabled=true} on Java 21+.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "app.threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int MAX_DISTINCT_STACKS = 1_000;
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final Timer pinned;
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${app.threads.pinning-monitor.threshold:20ms}") Duration threshold,
+                                       @Value("${app.threads.pinning-monitor.stack-depth:12}") int stackDepth,
+                                       MeterRegistry registry) {
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .register(registry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.setMaxAge(Duration.ofMinutes(1));
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String stack = frames(event.getStackTrace());
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "?";
+        if (reportedStacks.size() < MAX_DISTINCT_STACKS && reportedStacks.add(stack)) {
+            log.warn("Virtual thread {} pinned its carrier for {} ms at\n{}", thread, event.getDuration().toMillis(), stack);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Virtual thread {} pinned its carrier for {} ms at {}", thread, event.getDuration().toMillis(),
+                    stack.lines().findFirst().orElse(""));
+        }
+    }
+
+    private String frames(RecordedStackTrace trace) {
+        if (trace == null) {
+            return "\t(no stack trace)";
+        }
+        return trace.getFrames().stream()
+                .limit(stackDepth)
+                .map(VirtualThreadPinningMonitor::frame)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() >= 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -0,0 +1,39 @@
+package com.springapplication.studybuddyapp.controller;
+
+import com.springapplication.studybuddyapp.api.dto.BulkRoleChangeRequest;
+import com.springapplication.studybuddyapp.api.dto.BulkRoleChangeResponse;
+import com.springapplication.studybuddyapp.service.BulkRoleService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk role management for administrators: one role, many users, one statement.
+ * Lazy: created on the first admin call instead of at startup.
+ */
+@RestController
+@Lazy
+@RequestMapping("/api/admin/roles")
+public class AdminRoleController {
+
+    private final BulkRoleService bulkRoleService;
+
+    public AdminRoleController(BulkRoleService bulkRoleService) {
+        this.bulkRoleService = bulkRoleService;
+    }
+
+    /** Adds the role to every selected user that does not have it yet. */
+    @PostMapping("/grant")
+    public BulkRoleChangeResponse grant(@Valid @RequestBody BulkRoleChangeRequest req) {
+        return bulkRoleService.grant(req);
+    }
+
+    /** Removes the role from every selected user that has it. */
+    @PostMapping("/revoke")
+    public BulkRoleChangeResponse revoke(@Valid @RequestBody BulkRoleChangeRequest req) {
+        return bulkRoleService.revoke(req);
+    }
+}
@@ -0,0 +1,101 @@
+package com.springapplication.studybuddyapp.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.springapplication.studybuddyapp.model.CacheRegions;
+import com.springapplication.studybuddyapp.security.LoginRateLimiter;
+import com.springapplication.studybuddyapp.security.UserDetailsCache;
+import com.springapplication.studybuddyapp.security.VerifiedCredentialCache;
+import com.springapplication.studybuddyapp.service.EmailBloomFilter;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Read-only operational statistics for administrators.
+ * Lazy: created on the first admin call instead of at startup.
+ */
+@RestController
+@Lazy
+@RequestMapping("/api/admin")
+public class AdminStatsController {
+
+    private final UserDetailsCache userDetailsCache;
+    private final ObjectProvider<VerifiedCredentialCache> credentialCache;
+    private final ObjectProvider<LoginRateLimiter> rateLimiter;
+    private final EmailBloomFilter emailFilter;
+    private final Statistics hibernateStats;
+
+    public AdminStatsController(UserDetailsCache userDetailsCache,
+                                ObjectProvider<VerifiedCredentialCache> credentialCache,
+                                ObjectProvider<LoginRateLimiter> rateLimiter,
+                                EmailBloomFilter emailFilter,
+                                EntityManagerFactory emf) {
+        this.userDetailsCache = userDetailsCache;
+        this.credentialCache = credentialCache;
+        this.rateLimiter = rateLimiter;
+        this.emailFilter = emailFilter;
+        this.hibernateStats = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /** Hit/miss/eviction counters of the in-process caches. */
+    @GetMapping("/caches")
+    public Map<String, Object> caches() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userDetails", toMap(userDetailsCache.stats(), userDetailsCache.estimatedSize()));
+        credentialCache.ifAvailable(c -> body.put("verifiedCredentials", toMap(c.stats(), c.estimatedSize())));
+        body.put("emailFilter", emailFilter.stats());
+        body.put("hibernate", hibernateRegions());
+        return body;
+    }
+
+    /** Login/signup rate limiter: tracked keys and the most-rejected IPs and emails. */
+    @GetMapping("/rate-limits")
+    public Map<String, Object> rateLimits(@RequestParam(defaultValue = "20") int top) {
+        LoginRateLimiter limiter = rateLimiter.getIfAvailable();
+        return limiter != null ? limiter.snapshot(Math.max(0, Math.min(top, 100))) : Map.of("enabled", false);
+    }
+
+    /**
+     * Second-level cache regions; counters stay at zero unless {@code app.jpa.statistics.enabled} is on.
+     * JCache does not report entry counts, so {@code size} is left out when the provider has none.
+     */
+    private Map<String, Object> hibernateRegions() {
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : CacheRegions.ALL) {
+            CacheRegionStatistics stats = hibernateStats.getCacheRegionStatistics(region);
+            if (stats == null) {
+                continue;
+            }
+            Map<String, Object> m = new LinkedHashMap<>();
+            if (stats.getElementCountInMemory() >= 0) {
+                m.put("size", stats.getElementCountInMemory());
+            }
+            m.put("hits", stats.getHitCount());
+            m.put("misses", stats.getMissCount());
+            m.put("puts", stats.getPutCount());
+            long lookups = stats.getHitCount() + stats.getMissCount();
+            m.put("hitRate", lookups == 0 ? 1.0 : (double) stats.getHitCount() / lookups);
+            regions.put(region, m);
+        }
+        return regions;
+    }
+
+    private static Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("size", size);
+        m.put("hits", stats.hitCount());
+        m.put("misses", stats.missCount());
+        m.put("hitRate", stats.hitRate());
+        m.put("evictions", stats.evictionCount());
+        return m;
+    }
+}
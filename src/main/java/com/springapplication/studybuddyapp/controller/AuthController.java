@@ -5,6 +5,8 @@ import com.springapplication.studybuddyapp.api.dto.LoginRequest;
 import com.springapplication.studybuddyapp.api.dto.SignupRequest;
 import com.springapplication.studybuddyapp.api.dto.UserResponse;
 import com.springapplication.studybuddyapp.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -20,7 +22,7 @@ import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.bind.annotation.*;
 
 /**
- * Authentication endpoints (signup + login).
+ * Authentication endpoints (signup, login, email availability).
  */
 @RestController
 @RequestMapping("/auth")
@@ -29,13 +31,18 @@ public class AuthController {
     private final AuthService authService;
     private final AuthenticationManager authenticationManager;
     private final SecurityContextRepository securityContextRepository;
+    private final Timer authenticateTimer;
+    private final Timer saveContextTimer;
 
     public AuthController(AuthService authService,
                           AuthenticationManager authenticationManager,
-                          SecurityContextRepository securityContextRepository) {
+                          SecurityContextRepository securityContextRepository,
+                          MeterRegistry meterRegistry) {
         this.authService = authService;
         this.authenticationManager = authenticationManager;
         this.securityContextRepository = securityContextRepository;
+        this.authenticateTimer = Timer.builder("auth.login.phase").tag("phase", "authenticate").register(meterRegistry);
+        this.saveContextTimer = Timer.builder("auth.login.phase").tag("phase", "save_context").register(meterRegistry);
     }
 
     /** POST /auth/signup – create user, hash password, default role. */
@@ -45,22 +52,29 @@ public class AuthController {
         return authService.signup(req.getName(), req.getEmail(), req.getPassword());
     }
 
+    /** GET /auth/email-available?email=… – called by the signup page while the user types; rate limited per IP. */
+    @GetMapping("/email-available")
+    public Map<String, Object> emailAvailable(@RequestParam String email) {
+        return Map.of("email", email, "available", authService.isEmailAvailable(email));
+    }
+
     /**
      * POST /auth/login – authenticates via AuthenticationManager and persists
-     * the SecurityContext into the HTTP session.
+     * the SecurityContext (HTTP session or signed token, see SecurityInfraConfig).
+     * Both steps are timed as {@code auth.login.phase}; failed attempts are recorded too.
      */
     @PostMapping("/login")
     public ResponseEntity<Map<String, String>> login(@Valid @RequestBody LoginRequest req,
                                                      HttpServletRequest request,
                                                      HttpServletResponse response) {
-        Authentication authentication = authenticationManager.authenticate(
+        Authentication authentication = authenticateTimer.record(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword())
-        );
+        ));
 
         SecurityContext context = SecurityContextHolder.createEmptyContext();
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
-        securityContextRepository.saveContext(context, request, response);
+        saveContextTimer.record(() -> securityContextRepository.saveContext(context, request, response));
 
         return ResponseEntity.ok(Map.of("message", "Login successful"));
     }
@@ -2,14 +2,17 @@ package com.springapplication.studybuddyapp.controller;
 
 import java.util.List;
 import java.util.Map;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 /**
  * Groups page (placeholder list). Replace with real GroupService when ready.
+ * Lazy: created on the first GET /groups instead of at startup.
  */
 @Controller
+@Lazy
 public class GroupsController {
 
     @GetMapping("/groups")
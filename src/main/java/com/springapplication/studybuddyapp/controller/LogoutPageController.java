@@ -1,13 +1,16 @@
 package com.springapplication.studybuddyapp.controller;
 
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 
 /**
  * Shows a logout confirmation page with a POST form to /logout.
  * GET /logout renders the page; POST /logout is handled by Spring Security.
+ * Lazy: created on the first GET /logout instead of at startup.
  */
 @Controller
+@Lazy
 public class LogoutPageController {
 
     @GetMapping("/logout")
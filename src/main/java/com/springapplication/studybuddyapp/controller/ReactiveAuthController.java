@@ -0,0 +1,57 @@
+package com.springapplication.studybuddyapp.controller;
+
+import com.springapplication.studybuddyapp.api.dto.LoginRequest;
+import com.springapplication.studybuddyapp.api.dto.SignupRequest;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.service.ReactiveAuthService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twins of {@code POST /auth/signup} and {@code POST /auth/login}. Handlers return a
+ * {@link Mono}, so the request runs as a servlet async request: the Tomcat thread is released while
+ * R2DBC and the hashing pool work, and the response is written when the {@link Mono} completes.
+ */
+@RestController
+@RequestMapping("/reactive/auth")
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+    private final SecurityContextRepository securityContextRepository;
+
+    public ReactiveAuthController(ReactiveAuthService authService, SecurityContextRepository securityContextRepository) {
+        this.authService = authService;
+        this.securityContextRepository = securityContextRepository;
+    }
+
+    /** POST /reactive/auth/signup – same body, checks and response as /auth/signup. */
+    @PostMapping("/signup")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<UserResponse> signup(@Valid @RequestBody SignupRequest req) {
+        return authService.signup(req.getName(), req.getEmail(), req.getPassword());
+    }
+
+    /** POST /reactive/auth/login – authenticates and saves the SecurityContext like /auth/login. */
+    @PostMapping("/login")
+    public Mono<Map<String, String>> login(@Valid @RequestBody LoginRequest req,
+                                           HttpServletRequest request,
+                                           HttpServletResponse response) {
+        return authService.authenticate(req.getEmail(), req.getPassword())
+                .map(authentication -> {
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(authentication);
+                    securityContextRepository.saveContext(context, request, response);
+                    return Map.of("message", "Login successful");
+                });
+    }
+}
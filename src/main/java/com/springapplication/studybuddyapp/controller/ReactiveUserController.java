@@ -0,0 +1,45 @@
+package com.springapplication.studybuddyapp.controller;
+
+import com.springapplication.studybuddyapp.api.dto.UserPageResponse;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.repository.UserReadRepository;
+import com.springapplication.studybuddyapp.service.ReactiveUserQueryService;
+import java.time.LocalDateTime;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only Users API on R2DBC, answering exactly like {@code GET /api/users} and
+ * {@code GET /api/users/{id}}.
+ */
+@RestController
+@RequestMapping("/reactive/users")
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveUserController {
+
+    private final ReactiveUserQueryService userQueryService;
+
+    public ReactiveUserController(ReactiveUserQueryService userQueryService) {
+        this.userQueryService = userQueryService;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<UserResponse> get(@PathVariable Long id) {
+        return userQueryService.get(id);
+    }
+
+    /** Same parameters and cursors as {@code GET /api/users}. */
+    @GetMapping
+    public Mono<UserPageResponse> list(@RequestParam(defaultValue = "ID") UserReadRepository.Order order,
+                                       @RequestParam(required = false) String role,
+                                       @RequestParam(required = false)
+                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                       @RequestParam(required = false)
+                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(required = false) Integer size) {
+        return userQueryService.list(order, role, createdFrom, createdTo, cursor, size);
+    }
+}
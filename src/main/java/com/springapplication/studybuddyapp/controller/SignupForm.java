@@ -1,8 +1,8 @@
 package com.springapplication.studybuddyapp.controller;
 
+import com.springapplication.studybuddyapp.api.validation.StrongPassword;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 public class SignupForm {
@@ -16,11 +16,7 @@ public class SignupForm {
     private String email;
 
     @NotBlank(message = "Password is required")
-    @Size(min = 8, message = "Password must be at least 8 characters")
-    @Pattern(
-            regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[^A-Za-z0-9]).{8,64}$",
-            message = "Password must include upper, lower, number and special character"
-    )
+    @StrongPassword
     private String password;
 
     @NotBlank(message = "Please confirm your password")
@@ -2,12 +2,21 @@ package com.springapplication.studybuddyapp.controller;
 
 import com.springapplication.studybuddyapp.api.dto.*;
 import com.springapplication.studybuddyapp.model.User;
+import com.springapplication.studybuddyapp.repository.UserReadRepository;
+import com.springapplication.studybuddyapp.service.UserExportService;
+import com.springapplication.studybuddyapp.service.UserImportService;
+import com.springapplication.studybuddyapp.service.UserQueryService;
 import com.springapplication.studybuddyapp.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -18,32 +27,74 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
-    public UserController(UserService userService) { this.userService = userService; }
+    private final UserImportService userImportService;
+    private final UserQueryService userQueryService;
+    private final UserExportService userExportService;
+
+    public UserController(UserService userService, UserImportService userImportService,
+                          UserQueryService userQueryService, UserExportService userExportService) {
+        this.userService = userService;
+        this.userImportService = userImportService;
+        this.userQueryService = userQueryService;
+        this.userExportService = userExportService;
+    }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public UserResponse create(@Valid @RequestBody CreateUserRequest req) {
         User u = userService.createUser(req.getName(), req.getEmail(), req.getPassword());
-        return toDto(u, userService.roleNames(u));
+        return userQueryService.get(u.getId());
+    }
+
+    /** Bulk create from a CSV or NDJSON stream; returns totals and per-row errors. */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ImportReport importUsers(@RequestHeader("Content-Type") MediaType contentType, InputStream body) {
+        UserImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? UserImportService.Format.CSV
+                : UserImportService.Format.NDJSON;
+        return userImportService.importUsers(body, format);
+    }
+
+    /**
+     * Whole directory as {@code ?format=NDJSON} (default) or {@code CSV}, streamed as rows are read.
+     * Written straight to the response on the request thread, so long exports are not cut off by
+     * the async request timeout.
+     */
+    @GetMapping("/export")
+    public void export(@RequestParam(defaultValue = "NDJSON") UserExportService.Format format,
+                       HttpServletResponse response) throws IOException {
+        boolean csv = format == UserExportService.Format.CSV;
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(csv ? "users.csv" : "users.ndjson").build().toString());
+        userExportService.export(format, response.getOutputStream());
     }
 
     @GetMapping("/{id}")
     public UserResponse get(@PathVariable Long id) {
-        User u = userService.getUser(id);
-        return toDto(u, userService.roleNames(u));
+        return userQueryService.get(id);
     }
 
+    /**
+     * One keyset page of users, optionally filtered by role and creation time
+     * ({@code createdFrom} inclusive, {@code createdTo} exclusive, ISO date-time).
+     */
     @GetMapping
-    public List<UserResponse> list() {
-        return userService.listUsers().stream()
-                .map(u -> toDto(u, userService.roleNames(u)))
-                .collect(Collectors.toList());
+    public UserPageResponse list(@RequestParam(defaultValue = "ID") UserReadRepository.Order order,
+                                 @RequestParam(required = false) String role,
+                                 @RequestParam(required = false)
+                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                 @RequestParam(required = false)
+                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(required = false) Integer size) {
+        return userQueryService.list(order, role, createdFrom, createdTo, cursor, size);
     }
 
     @PutMapping("/{id}")
     public UserResponse update(@PathVariable Long id, @Valid @RequestBody UpdateUserRequest req) {
-        User u = userService.updateProfile(id, req.getName(), req.getEmail());
-        return toDto(u, userService.roleNames(u));
+        userService.updateProfile(id, req.getName(), req.getEmail());
+        return userQueryService.get(id);
     }
 
     @PostMapping("/{id}/password")
@@ -67,9 +118,5 @@ public class UserController {
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable Long id) { userService.deleteUser(id); }
-
-    private UserResponse toDto(User u, Set<String> roles) {
-        return new UserResponse(u.getId(), u.getName(), u.getEmail(), roles, u.getCreatedAt());
-    }
 }
 
@@ -0,0 +1,13 @@
+package com.springapplication.studybuddyapp.exception;
+
+/** 503 Service Unavailable (e.g., password hashing saturated); carries a Retry-After hint. */
+public class ServiceUnavailableException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
@@ -0,0 +1,22 @@
+package com.springapplication.studybuddyapp.model;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions. Each one must have size and expiry limits in
+ * {@code hibernate-jcache.conf}; startup fails for a region without configuration.
+ * <p>
+ * The cache is per node, so only data that is safe to serve stale until the TTL belongs here.
+ * {@link User} and {@link UserRole} stay out: they carry password hashes and authorities, and a
+ * change made on one node must take effect on every node at once.
+ */
+public final class CacheRegions {
+
+    /** {@link Role} rows: a handful, changed almost never. */
+    public static final String ROLES = "roles";
+
+    public static final List<String> ALL = List.of(ROLES);
+
+    private CacheRegions() {
+    }
+}
@@ -1,6 +1,9 @@
 package com.springapplication.studybuddyapp.model;
 
+import com.springapplication.studybuddyapp.service.RoleCatalogListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -12,6 +15,8 @@ import java.util.Set;
  * is represented via {@link UserRole} join entities.</p>
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ROLES)
+@EntityListeners(RoleCatalogListener.class)
 @Table(
         name = "roles",
         uniqueConstraints = {
@@ -20,9 +25,10 @@ import java.util.Set;
 )
 public class Role {
 
-    /** Primary key (serial). */
+    /** Primary key from {@code roles_id_seq}; roles are rare, so no pooling and ids stay dense. */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_id")
+    @SequenceGenerator(name = "roles_id", sequenceName = "roles_id_seq", allocationSize = 1)
     private Integer id;
 
     /** Unique role name (choose one convention: USER/ADMIN or ROLE_USER/ROLE_ADMIN). */
@@ -21,6 +21,10 @@ import java.util.Set;
  * <p>Each user has a unique email, a display name, and a securely hashed
  * password (e.g., BCrypt). The entity also tracks creation time.</p>
  *
+ * <p>Deliberately not in the second-level cache: a per-node copy would keep an
+ * old password hash or role set working on other nodes after a change
+ * (see {@link CacheRegions}).</p>
+ *
  * @see Role
  * @see UserRole
  */
@@ -33,9 +37,19 @@ import java.util.Set;
 )
 public class User {
 
-    /** Primary key (auto-generated). */
+    /**
+     * Ids handed out per {@code users_id_seq} call; must equal the sequence's INCREMENT BY
+     * (see migration V3). Raw SQL inserts reserve ids in the same blocks.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Primary key from a pooled sequence: one round trip per {@link #ID_ALLOCATION_SIZE} inserts,
+     * and ids are known before the INSERT, so Hibernate can batch user and link inserts.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id")
+    @SequenceGenerator(name = "users_id", sequenceName = "users_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /** Display name shown on dashboards, groups, etc. */
@@ -0,0 +1,134 @@
+package com.springapplication.studybuddyapp.repository;
+
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Keyset;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Order;
+import io.r2dbc.spi.Readable;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking twin of {@link UserReadRepository} plus the signup/login statements, on R2DBC.
+ * <p>
+ * Reads reuse {@link UserReadRepository}'s SQL, so both stacks return identical rows; only the
+ * JDBC {@code ?} placeholders are rewritten to PostgreSQL's {@code $n}. New users take their id
+ * straight from {@code users_id_seq}: each {@code nextval} owns a whole block under Hibernate's pooled
+ * optimizer, so the id cannot collide with ids the JPA side hands out from memory.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveUserRepository {
+
+    /** What a login needs: the stored email and hash plus role names. */
+    public record Credentials(long id, String email, String passwordHash, Set<String> roles) {}
+
+    private static final String SELECT_CREDENTIALS = """
+            SELECT u.id, u.email, u.password_hash,
+                   ARRAY(SELECT r.name FROM user_roles ur JOIN roles r ON r.id = ur.role_id
+                         WHERE ur.user_id = u.id ORDER BY r.name) AS roles
+            FROM users u WHERE lower(u.email) = lower($1)""";
+    private static final String EXISTS_EMAIL = "SELECT 1 FROM users WHERE lower(email) = lower($1) LIMIT 1";
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, name, email, password_hash, created_at)
+            VALUES (nextval('users_id_seq'), $1, $2, $3, $4)
+            RETURNING id""";
+    private static final String INSERT_LINK = "INSERT INTO user_roles (user_id, role_id, assigned_at) VALUES ($1, $2, $3)";
+
+    private final DatabaseClient db;
+    private final TransactionalOperator transactions;
+
+    public ReactiveUserRepository(DatabaseClient reactiveDatabaseClient, TransactionalOperator reactiveTransactions) {
+        this.db = reactiveDatabaseClient;
+        this.transactions = reactiveTransactions;
+    }
+
+    /** One user with roles, or empty. */
+    public Mono<UserResponse> findById(long id) {
+        return db.sql(UserReadRepository.SELECT_RESPONSE + " WHERE u.id = $1")
+                .bind(0, id)
+                .map(ReactiveUserRepository::toResponse)
+                .one();
+    }
+
+    /** Same page as {@link UserReadRepository#findPage}. */
+    public Flux<UserResponse> findPage(Order order, Filter filter, Keyset after, int limit) {
+        List<Object> args = new ArrayList<>();
+        DatabaseClient.GenericExecuteSpec spec = db.sql(bindMarkers(UserReadRepository.pageQuery(order, filter, after, limit, args)));
+        for (int i = 0; i < args.size(); i++) {
+            // the shared filter binds JDBC timestamps; the R2DBC driver wants java.time
+            Object arg = args.get(i);
+            spec = spec.bind(i, arg instanceof Timestamp ts ? ts.toLocalDateTime() : arg);
+        }
+        return spec.map(ReactiveUserRepository::toResponse).all();
+    }
+
+    public Mono<Boolean> existsByEmailIgnoreCase(String email) {
+        return db.sql(EXISTS_EMAIL).bind(0, email).map(row -> true).first().hasElement();
+    }
+
+    /** Login row for an email, matched case-insensitively (unique, see migration V6), or empty. */
+    public Mono<Credentials> findCredentials(String email) {
+        return db.sql(SELECT_CREDENTIALS)
+                .bind(0, email)
+                .map(row -> new Credentials(row.get("id", Long.class), row.get("email", String.class),
+                        row.get("password_hash", String.class), roleNames(row)))
+                .one();
+    }
+
+    /** Inserts the user and its role link in one transaction. */
+    public Mono<UserResponse> insert(String name, String email, String passwordHash, Role role) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        return db.sql(INSERT_USER)
+                .bind(0, name)
+                .bind(1, email)
+                .bind(2, passwordHash)
+                .bind(3, createdAt)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(id -> db.sql(INSERT_LINK)
+                        .bind(0, id)
+                        .bind(1, role.getId())
+                        .bind(2, createdAt)
+                        .then()
+                        .thenReturn(new UserResponse(id, name, email, Set.of(role.getName()), createdAt)))
+                .as(transactions::transactional);
+    }
+
+    /** Rewrites JDBC {@code ?} placeholders to {@code $1, $2, ...}; the shared SQL has no '?' in literals. */
+    static String bindMarkers(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        int n = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                out.append('$').append(++n);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static UserResponse toResponse(Readable row) {
+        return new UserResponse(row.get("id", Long.class), row.get("name", String.class), row.get("email", String.class),
+                roleNames(row), row.get("created_at", LocalDateTime.class));
+    }
+
+    private static Set<String> roleNames(Readable row) {
+        String[] roles = row.get("roles", String[].class);
+        return roles == null ? Set.of() : new LinkedHashSet<>(Arrays.asList(roles));
+    }
+}
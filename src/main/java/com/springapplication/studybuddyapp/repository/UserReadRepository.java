@@ -0,0 +1,116 @@
+package com.springapplication.studybuddyapp.repository;
+
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only user queries that go straight to JDBC and return API rows, so listings never load
+ * {@code User} entities or touch their lazy role links.
+ * <p>
+ * Every read is one statement: role names are aggregated into an array by a correlated subquery,
+ * so a row never costs a second round trip, whether it is a single user or a keyset page (the
+ * export reads the same pages).
+ */
+@Repository
+public class UserReadRepository {
+
+    /** Keyset order; ties on {@code created_at} are broken by id. */
+    public enum Order { ID, CREATED_AT }
+
+    /** Optional filters; nulls are ignored. {@code createdTo} is exclusive. */
+    public record Filter(Integer roleId, LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+        public boolean isEmpty() {
+            return roleId == null && createdFrom == null && createdTo == null;
+        }
+
+        /** Appends {@code AND ...} conditions on {@code users u} and their arguments. */
+        void appendTo(StringBuilder sql, List<Object> args) {
+            if (roleId != null) {
+                sql.append(" AND EXISTS (SELECT 1 FROM user_roles f WHERE f.user_id = u.id AND f.role_id = ?)");
+                args.add(roleId);
+            }
+            if (createdFrom != null) {
+                sql.append(" AND u.created_at >= ?");
+                args.add(Timestamp.valueOf(createdFrom));
+            }
+            if (createdTo != null) {
+                sql.append(" AND u.created_at < ?");
+                args.add(Timestamp.valueOf(createdTo));
+            }
+        }
+    }
+
+    /** Position of the last row of the previous page. */
+    public record Keyset(LocalDateTime createdAt, long id) {}
+
+    /** The {@link UserResponse} projection: user columns plus role names aggregated in the same statement. */
+    static final String SELECT_RESPONSE = """
+            SELECT u.id, u.name, u.email, u.created_at,
+                   ARRAY(SELECT r.name FROM user_roles ur JOIN roles r ON r.id = ur.role_id
+                         WHERE ur.user_id = u.id ORDER BY r.name) AS roles
+            FROM users u""";
+
+    private static final RowMapper<UserResponse> RESPONSE = (rs, i) -> toResponse(rs);
+
+    private final JdbcTemplate jdbc;
+
+    public UserReadRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** Up to {@code limit} users after {@code after} (null for the first page), with their roles, in one statement. */
+    public List<UserResponse> findPage(Order order, Filter filter, Keyset after, int limit) {
+        List<Object> args = new ArrayList<>();
+        return jdbc.query(pageQuery(order, filter, after, limit, args), RESPONSE, args.toArray());
+    }
+
+    /** SQL for one page with {@code ?} placeholders; their values are appended to {@code args}. */
+    static String pageQuery(Order order, Filter filter, Keyset after, int limit, List<Object> args) {
+        StringBuilder sql = new StringBuilder(SELECT_RESPONSE).append(" WHERE true");
+        filter.appendTo(sql, args);
+        if (order == Order.ID) {
+            if (after != null) {
+                sql.append(" AND u.id > ?");
+                args.add(after.id());
+            }
+            sql.append(" ORDER BY u.id");
+        } else {
+            if (after != null) {
+                sql.append(" AND (u.created_at, u.id) > (?, ?)");
+                args.add(Timestamp.valueOf(after.createdAt()));
+                args.add(after.id());
+            }
+            sql.append(" ORDER BY u.created_at, u.id");
+        }
+        sql.append(" LIMIT ?");
+        args.add(limit);
+        return sql.toString();
+    }
+
+    /** One user with roles, or empty; a single statement and no persistence context. */
+    public Optional<UserResponse> findById(long id) {
+        return jdbc.query(SELECT_RESPONSE + " WHERE u.id = ?", RESPONSE, id).stream().findFirst();
+    }
+
+    private static UserResponse toResponse(ResultSet rs) throws SQLException {
+        Array roles = rs.getArray(5);
+        Set<String> names = new LinkedHashSet<>(Arrays.asList((String[]) roles.getArray()));
+        roles.free();
+        return new UserResponse(rs.getLong(1), rs.getString(2), rs.getString(3), names,
+                rs.getTimestamp(4).toLocalDateTime());
+    }
+}
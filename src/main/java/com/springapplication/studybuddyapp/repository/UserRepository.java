@@ -7,16 +7,27 @@ import com.springapplication.studybuddyapp.model.User;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository for {@link User}.
+ * <p>
+ * Lookups that decide a login or a signup are {@code @Transactional} (read-write) on purpose: the
+ * routing data source sends read-only work to the replica, and a lagging replica would reject a
+ * password that was just changed or let a just-registered email sign up again. Called inside a
+ * caller's read-only transaction they join it and go wherever it goes.
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmailIgnoreCase(String email);
+
+    /** Signup duplicate check; on the primary (see class comment). */
+    @Transactional
     boolean existsByEmailIgnoreCase(String email);
+
     boolean existsByNameIgnoreCase(String name);
     /** Derived query for exact name match. */
     Optional<User> findByName(String name);
@@ -42,10 +53,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
            left join fetch ur.role r
            where lower(u.email) = lower(:email)
            """)
+    @Transactional // login: credentials from the primary (see class comment)
     Optional<User> findByEmailIgnoreCaseWithRoles(@Param("email") String email);
 
+    /** Form signup duplicate check; on the primary (see class comment). */
+    @Transactional
     boolean existsByEmail(String email);
 
+    /** Single UPDATE used to re-hash a password on login without loading the entity. */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.passwordHash = :hash where lower(u.email) = lower(:email)")
+    int updatePasswordHashByEmail(@Param("email") String email, @Param("hash") String hash);
+
 }
 
 
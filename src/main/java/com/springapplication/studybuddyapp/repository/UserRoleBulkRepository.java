@@ -0,0 +1,79 @@
+package com.springapplication.studybuddyapp.repository;
+
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Grants or revokes one role for many users with a single statement over {@code user_roles}.
+ * <p>
+ * Users are selected either by id or by a {@link Filter}. Both operations return the emails of the
+ * users whose links actually changed, so callers can invalidate per-user caches; users that already
+ * had (or never had) the role are not returned.
+ */
+@Repository
+public class UserRoleBulkRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public UserRoleBulkRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** Adds {@code roleId} to every selected user missing it; returns their emails. */
+    public List<String> grant(int roleId, List<Long> userIds, Filter filter) {
+        StringBuilder sql = new StringBuilder("""
+                WITH granted AS (
+                    INSERT INTO user_roles (user_id, role_id, assigned_at)
+                    SELECT u.id, ?, now() FROM users u WHERE true""");
+        List<Object> args = new ArrayList<>();
+        args.add(roleId);
+        appendSelection(sql, args, userIds, filter);
+        sql.append("""
+
+                    ON CONFLICT DO NOTHING
+                    RETURNING user_id)
+                SELECT u.email FROM granted g JOIN users u ON u.id = g.user_id""");
+        return run(sql.toString(), args);
+    }
+
+    /** Removes {@code roleId} from every selected user holding it; returns their emails. */
+    public List<String> revoke(int roleId, List<Long> userIds, Filter filter) {
+        StringBuilder sql = new StringBuilder("""
+                DELETE FROM user_roles ur USING users u
+                WHERE ur.user_id = u.id AND ur.role_id = ?""");
+        List<Object> args = new ArrayList<>();
+        args.add(roleId);
+        appendSelection(sql, args, userIds, filter);
+        sql.append(" RETURNING u.email");
+        return run(sql.toString(), args);
+    }
+
+    private static void appendSelection(StringBuilder sql, List<Object> args, List<Long> userIds, Filter filter) {
+        if (userIds != null && !userIds.isEmpty()) {
+            sql.append(" AND u.id = ANY(?)");
+            args.add(userIds.toArray(Long[]::new));
+        }
+        if (filter != null) {
+            filter.appendTo(sql, args);
+        }
+    }
+
+    private List<String> run(String sql, List<Object> args) {
+        return jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            for (int i = 0; i < args.size(); i++) {
+                Object arg = args.get(i);
+                if (arg instanceof Long[] ids) {
+                    ps.setArray(i + 1, con.createArrayOf("bigint", ids));
+                } else {
+                    ps.setObject(i + 1, arg);
+                }
+            }
+            return ps;
+        }, (rs, i) -> rs.getString(1));
+    }
+}
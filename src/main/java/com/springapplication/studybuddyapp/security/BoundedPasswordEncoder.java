@@ -0,0 +1,213 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.springapplication.studybuddyapp.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs a CPU-heavy {@link PasswordEncoder} on a dedicated, fixed-size pool of platform threads
+ * with a bounded queue, so request threads never hash concurrently beyond the core count.
+ * <p>
+ * When the queue is full the call fails immediately with {@link ServiceUnavailableException}
+ * instead of piling up work. Exposes {@code password.hash.queue.depth}, {@code password.hash.active},
+ * {@code password.hash.rejected} and the {@code password.hash} latency timer.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    /** Bean name services use to ask for the offloading encoder instead of the primary one. */
+    public static final String BEAN_NAME = "hashingPasswordEncoder";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  Duration retryAfter, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hash requests waiting for a worker").register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Workers currently hashing").register(registry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Hash requests refused because the queue (or a caller's share of it) was full").register(registry);
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(registry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", "matches").register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Non-blocking {@link #encode}: the hash completes on a worker. A full queue fails the future
+     * with {@link ServiceUnavailableException} instead of throwing.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    /** Non-blocking {@link #matches}, failing like {@link #encodeAsync} when the queue is full. */
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Hashes a batch on every worker, in order. At most one task per worker is queued at a time, so
+     * a bulk caller never fills the queue that interactive signups rely on; when the queue is full
+     * anyway, it waits for its own oldest task instead of failing.
+     */
+    public String[] encodeAll(List<? extends CharSequence> rawPasswords) {
+        String[] hashes = new String[rawPasswords.size()];
+        ArrayDeque<Future<String>> inFlight = new ArrayDeque<>();
+        int window = executor.getMaximumPoolSize();
+        int next = 0;
+        int done = 0;
+        while (done < hashes.length) {
+            if (next < hashes.length && inFlight.size() < window) {
+                CharSequence raw = rawPasswords.get(next);
+                try {
+                    inFlight.add(executor.submit(() -> encodeTimer.recordCallable(() -> delegate.encode(raw))));
+                    next++;
+                    continue;
+                } catch (RejectedExecutionException ex) {
+                    if (inFlight.isEmpty()) {
+                        pause();
+                        continue;
+                    }
+                }
+            }
+            hashes[done++] = await(inFlight.poll());
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * This encoder, but with at most {@code maxInFlight} of the returned view's calls queued or running
+     * at once; past that they fail like a full queue. Gives a chatty caller (HTTP Basic re-checks a
+     * password on every request) its own share of the pool, so it cannot fill the queue that logins
+     * and signups rely on.
+     */
+    public PasswordEncoder limitedTo(int maxInFlight) {
+        Semaphore permits = new Semaphore(maxInFlight);
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return withPermit(permits, () -> BoundedPasswordEncoder.this.encode(rawPassword));
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return withPermit(permits, () -> BoundedPasswordEncoder.this.matches(rawPassword, encodedPassword));
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return delegate.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw reject();
+        }
+        return await(future);
+    }
+
+    private <T> T withPermit(Semaphore permits, Supplier<T> call) {
+        if (!permits.tryAcquire()) {
+            throw reject();
+        }
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private ServiceUnavailableException reject() {
+        rejected.increment();
+        return new ServiceUnavailableException("Too many password operations in progress, retry shortly",
+                retryAfterSeconds);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(reject());
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        }
+    }
+}
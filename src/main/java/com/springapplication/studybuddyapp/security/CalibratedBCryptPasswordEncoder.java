@@ -0,0 +1,68 @@
+package com.springapplication.studybuddyapp.security;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt encoder whose cost factor is chosen for the hardware it runs on.
+ * <p>
+ * {@link #calibrate} times a cheap probe hash at startup and extrapolates (each cost step doubles
+ * the work) to the highest cost that stays within the latency target. Verification works for any
+ * stored cost; {@link #upgradeEncoding} reports hashes whose cost differs from the chosen one so
+ * they are re-hashed on the next successful login.
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(CalibratedBCryptPasswordEncoder.class);
+    private static final int PROBE_STRENGTH = 8;
+
+    private final int strength;
+
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /** Picks the highest cost in {@code [minStrength, maxStrength]} whose hash time fits {@code target}. */
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        probe.encode("warm-up");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-probe");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        int steps = (int) Math.floor(Math.log((double) target.toNanos() / best) / Math.log(2));
+        int strength = Math.max(minStrength, Math.min(maxStrength, PROBE_STRENGTH + steps));
+        log.info("BCrypt calibrated: cost {} (probe cost {} took {} µs, target {} ms)",
+                strength, PROBE_STRENGTH, best / 1_000, target.toMillis());
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /** True for BCrypt hashes stored with a cost other than the calibrated one, in either direction. */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Integer cost = costOf(encodedPassword);
+        return cost != null && cost != strength;
+    }
+
+    /** Cost factor of a {@code $2a$NN$...} hash, or null if the value is not a BCrypt hash. */
+    static Integer costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return null;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.springapplication.studybuddyapp.security;
+
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsChecker;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Wraps the DAO provider: a pair found in {@link VerifiedCredentialCache} is authenticated without
+ * a password hash check, everything else goes to the delegate and is remembered on success.
+ * <p>
+ * The user is always read from the {@link UserDetailsService} first: its authorities and account
+ * status are applied even while a credential entry is live, and its stored hash must be the one the
+ * entry was verified against, so a password changed on any node makes the entry miss.
+ * <p>
+ * Meant for HTTP Basic only, where the same password is re-sent on every request.
+ */
+public class CredentialCachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final VerifiedCredentialCache cache;
+    private final UserDetailsService userDetailsService;
+    private final UserDetailsChecker accountChecker = new AccountStatusUserDetailsChecker();
+
+    public CredentialCachingAuthenticationProvider(AuthenticationProvider delegate,
+                                                   VerifiedCredentialCache cache,
+                                                   UserDetailsService userDetailsService) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String email = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+        String password = credentials.toString();
+
+        try {
+            UserDetails user = userDetailsService.loadUserByUsername(email);
+            if (cache.matches(email, user.getPassword(), password)) {
+                accountChecker.check(user);
+                UsernamePasswordAuthenticationToken result =
+                        UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+                result.setDetails(authentication.getDetails());
+                return result;
+            }
+        } catch (AuthenticationException ex) {
+            // user vanished or got locked since the entry was written: re-verify the slow way
+            cache.invalidate(email);
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        // remember the hash the delegate actually verified (an upgraded one if it re-encoded)
+        if (result != null && result.isAuthenticated()
+                && result.getPrincipal() instanceof UserDetails verified && verified.getPassword() != null) {
+            cache.remember(email, verified.getPassword(), password);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
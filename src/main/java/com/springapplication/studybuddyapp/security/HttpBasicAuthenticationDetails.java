@@ -0,0 +1,21 @@
+package com.springapplication.studybuddyapp.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AuthenticationDetailsSource;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Details of an authentication made from an HTTP Basic header, so the AuthenticationManager can
+ * check those passwords in their own lane of the hashing pool.
+ */
+public class HttpBasicAuthenticationDetails extends WebAuthenticationDetails {
+
+    public HttpBasicAuthenticationDetails(HttpServletRequest request) {
+        super(request);
+    }
+
+    /** Details source for {@code httpBasic(...)}. */
+    public static AuthenticationDetailsSource<HttpServletRequest, HttpBasicAuthenticationDetails> source() {
+        return HttpBasicAuthenticationDetails::new;
+    }
+}
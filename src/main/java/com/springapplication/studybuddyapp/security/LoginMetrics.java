@@ -0,0 +1,89 @@
+package com.springapplication.studybuddyapp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AccountExpiredException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Counts authentication outcomes from the AuthenticationManager's events as {@code auth.login}
+ * tagged with {@code result} (success/failure), {@code reason} and {@code channel}:
+ * {@code form} (POST /login), {@code api} (POST /auth/login) or {@code basic} (any other request,
+ * i.e. HTTP Basic on every call).
+ */
+@Component
+public class LoginMetrics {
+
+    private final MeterRegistry registry;
+
+    public LoginMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        count("success", "none");
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        count("failure", reason(event.getException()));
+    }
+
+    static String reason(AuthenticationException ex) {
+        if (ex instanceof BadCredentialsException || ex instanceof UsernameNotFoundException) {
+            return "bad_credentials";
+        } else if (ex instanceof LockedException) {
+            return "locked";
+        } else if (ex instanceof DisabledException) {
+            return "disabled";
+        } else if (ex instanceof AccountExpiredException) {
+            return "account_expired";
+        } else if (ex instanceof CredentialsExpiredException) {
+            return "credentials_expired";
+        } else if (ex instanceof PasswordCheckUnavailableException) {
+            return "unavailable";
+        } else if (ex instanceof InternalAuthenticationServiceException) {
+            return "service_error";
+        }
+        return "other";
+    }
+
+    private void count(String result, String reason) {
+        Counter.builder("auth.login")
+                .description("Authentication attempts by outcome")
+                .tag("result", result)
+                .tag("reason", reason)
+                .tag("channel", channel())
+                .register(registry)
+                .increment();
+    }
+
+    private static String channel() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servlet)) {
+            return "other";
+        }
+        HttpServletRequest request = servlet.getRequest();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return switch (path) {
+            case "/login" -> "form";
+            case "/auth/login" -> "api";
+            default -> "basic";
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rejects over-limit POSTs to /login, /signup and the JSON login/signup endpoints (/auth/** and
+ * /reactive/auth/**) with 429 before any password hashing happens. The email comes from the form
+ * parameter or, for JSON, from a buffered copy of the body that is replayed to the controller.
+ * GETs of /auth/email-available are limited per IP only.
+ * <p>
+ * Not a bean on purpose: it is added to the security chain only, so it must not be auto-registered
+ * as a servlet filter as well.
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> PATHS = Set.of("/login", "/signup", "/auth/login", "/auth/signup",
+            "/reactive/auth/login", "/reactive/auth/signup");
+    private static final String LOOKUP_PATH = "/auth/email-available";
+    private static final int MAX_JSON_BODY = 16 * 1024;
+
+    private final LoginRateLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public LoginRateLimitFilter(LoginRateLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("POST".equals(request.getMethod()) && PATHS.contains(path(request))) && !isLookup(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (isLookup(request)) {
+            long waitNanos = limiter.tryAcquireLookup(request.getRemoteAddr());
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest effective = request;
+        String email;
+        if (isJson(request)) {
+            byte[] body = request.getInputStream().readNBytes(MAX_JSON_BODY + 1);
+            if (body.length > MAX_JSON_BODY) {
+                response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+                return;
+            }
+            email = emailFromJson(body);
+            effective = new BufferedBodyRequest(request, body);
+        } else {
+            email = request.getParameter("email");
+        }
+
+        long waitNanos = limiter.tryAcquire(request.getRemoteAddr(), email);
+        if (waitNanos > 0) {
+            reject(response, waitNanos);
+            return;
+        }
+        chain.doFilter(effective, response);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", Instant.now().toString(),
+                "code", "TOO_MANY_REQUESTS",
+                "message", "Too many attempts, retry in " + retryAfter + "s"));
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean isLookup(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && LOOKUP_PATH.equals(path(request));
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String type = request.getContentType();
+        return type != null && type.toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    private String emailFromJson(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            return null; // malformed JSON is rejected by the controller; still limited by IP
+        }
+    }
+
+    /** Replays a body that has already been read. */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override public int read() { return in.read(); }
+                @Override public int read(byte[] b, int off, int len) { return in.read(b, off, len); }
+                @Override public boolean isFinished() { return in.available() == 0; }
+                @Override public boolean isReady() { return true; }
+                @Override public void setReadListener(ReadListener listener) {
+                    // the whole body is already in memory: it is available, then finished
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
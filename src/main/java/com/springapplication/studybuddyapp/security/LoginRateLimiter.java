@@ -0,0 +1,160 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-IP and per-email token buckets for the password-checking endpoints, plus a per-IP bucket for the
+ * anonymous email-availability lookup (so it cannot be used to enumerate registered emails quickly).
+ * <p>
+ * Buckets live in bounded Caffeine maps that drop keys idle for a full refill period (an idle bucket
+ * is full again anyway), so a spray of random IPs or emails cannot grow the heap without limit.
+ * Disabled with {@code app.security.rate-limit.enabled=false}.
+ * <p>
+ * The IP is {@code request.getRemoteAddr()}. Behind a load balancer that is the balancer's address
+ * unless {@code server.forward-headers-strategy=native} is set (the default in application.properties):
+ * Tomcat then takes the client from {@code X-Forwarded-For}, but only on connections from
+ * {@code server.tomcat.remoteip.internal-proxies}, so clients cannot pick their own bucket.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class LoginRateLimiter {
+
+    private final Limit ip;
+    private final Limit email;
+    private final Limit lookup;
+
+    public LoginRateLimiter(@Value("${app.security.rate-limit.ip.capacity:30}") int ipCapacity,
+                            @Value("${app.security.rate-limit.ip.refill-period:1m}") Duration ipPeriod,
+                            @Value("${app.security.rate-limit.email.capacity:10}") int emailCapacity,
+                            @Value("${app.security.rate-limit.email.refill-period:1m}") Duration emailPeriod,
+                            @Value("${app.security.rate-limit.lookup.capacity:20}") int lookupCapacity,
+                            @Value("${app.security.rate-limit.lookup.refill-period:1m}") Duration lookupPeriod,
+                            @Value("${app.security.rate-limit.max-keys:100000}") long maxKeys,
+                            MeterRegistry meterRegistry) {
+        this.ip = new Limit("ip", ipCapacity, ipPeriod, maxKeys, meterRegistry);
+        this.email = new Limit("email", emailCapacity, emailPeriod, maxKeys, meterRegistry);
+        this.lookup = new Limit("lookup", lookupCapacity, lookupPeriod, maxKeys, meterRegistry);
+    }
+
+    /**
+     * Takes a permit for the client IP and, when known, the email being tried. Both buckets are
+     * checked first, so an attempt refused for its email does not use up the IP's permit (and the
+     * other way round).
+     *
+     * @return 0 if the attempt may proceed, otherwise nanoseconds until it may be retried
+     */
+    public long tryAcquire(String clientIp, String emailOrNull) {
+        long now = System.nanoTime();
+        String emailKey = emailOrNull == null || emailOrNull.isBlank() ? null : emailOrNull.trim().toLowerCase(Locale.ROOT);
+        long wait = ip.check(clientIp, now);
+        if (wait == 0 && emailKey != null) {
+            wait = email.check(emailKey, now);
+        }
+        if (wait > 0) {
+            return wait;
+        }
+        // both had a permit a moment ago; only a concurrent attempt on the same key can take it first
+        wait = ip.tryAcquire(clientIp, now);
+        if (wait == 0 && emailKey != null) {
+            wait = email.tryAcquire(emailKey, now);
+        }
+        return wait;
+    }
+
+    /**
+     * Takes a permit for an email-availability lookup from the client IP. Not keyed by email: an
+     * enumeration tries many emails from few addresses.
+     *
+     * @return 0 if the lookup may proceed, otherwise nanoseconds until it may be retried
+     */
+    public long tryAcquireLookup(String clientIp) {
+        return lookup.tryAcquire(clientIp, System.nanoTime());
+    }
+
+    /** Bucket counts and the keys with the most rejections, for the admin endpoint. */
+    public Map<String, Object> snapshot(int top) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ip", ip.snapshot(top));
+        body.put("email", email.snapshot(top));
+        body.put("lookup", lookup.snapshot(top));
+        return body;
+    }
+
+    private static final class Limit {
+
+        private final String scope;
+        private final int capacity;
+        private final long periodNanos;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejections;
+
+        Limit(String scope, int capacity, Duration period, long maxKeys, MeterRegistry registry) {
+            this.scope = scope;
+            this.capacity = capacity;
+            this.periodNanos = period.toNanos();
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(period)
+                    .build();
+            this.rejections = Counter.builder("auth.rate_limited")
+                    .description("Login/signup attempts and email lookups rejected before any password or database work")
+                    .tag("scope", scope)
+                    .register(registry);
+        }
+
+        /** Wait for the next permit without taking it; a positive answer counts as a rejection. */
+        long check(String key, long now) {
+            TokenBucket bucket = bucket(key, now);
+            long wait = bucket.waitNanos(now);
+            if (wait > 0) {
+                bucket.recordRejection();
+                rejections.increment();
+            }
+            return wait;
+        }
+
+        long tryAcquire(String key, long now) {
+            long wait = bucket(key, now).tryAcquire(now);
+            if (wait > 0) {
+                rejections.increment();
+            }
+            return wait;
+        }
+
+        private TokenBucket bucket(String key, long now) {
+            return buckets.get(key, k -> new TokenBucket(capacity, periodNanos, now));
+        }
+
+        Map<String, Object> snapshot(int top) {
+            List<Map.Entry<String, TokenBucket>> limited = new ArrayList<>();
+            buckets.asMap().forEach((k, b) -> {
+                if (b.rejectedCount() > 0) {
+                    limited.add(Map.entry(k, b));
+                }
+            });
+            limited.sort(Comparator.comparingLong((Map.Entry<String, TokenBucket> e) -> e.getValue().rejectedCount()).reversed());
+            Map<String, Long> rejectedByKey = new LinkedHashMap<>();
+            limited.stream().limit(top).forEach(e -> rejectedByKey.put(e.getKey(), e.getValue().rejectedCount()));
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("scope", scope);
+            m.put("keys", buckets.estimatedSize());
+            m.put("rejectedTotal", (long) rejections.count());
+            m.put("topRejected", rejectedByKey);
+            return m;
+        }
+    }
+}
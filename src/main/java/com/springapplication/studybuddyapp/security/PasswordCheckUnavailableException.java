@@ -0,0 +1,24 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.springapplication.studybuddyapp.exception.ServiceUnavailableException;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * A login whose password could not be checked because the hashing pool was full. Being an
+ * {@code AuthenticationException}, it reaches the form-login failure handler and the Basic entry point
+ * (which answer 503 with Retry-After, see {@link PasswordCheckUnavailableResponder}) and publishes a
+ * failure event, instead of escaping the security filters as a raw 500.
+ */
+public class PasswordCheckUnavailableException extends AuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordCheckUnavailableException(ServiceUnavailableException cause) {
+        super(cause.getMessage(), cause);
+        this.retryAfterSeconds = cause.getRetryAfterSeconds();
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,57 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+
+/**
+ * Answers a form or HTTP Basic login that failed with {@link PasswordCheckUnavailableException} with
+ * 503, Retry-After and the same JSON body as the API endpoints; every other failure goes to the
+ * handler it wraps (redirect to the login page, or the Basic 401 challenge).
+ */
+public class PasswordCheckUnavailableResponder {
+
+    private final ObjectMapper objectMapper;
+
+    public PasswordCheckUnavailableResponder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public AuthenticationFailureHandler failureHandler(AuthenticationFailureHandler otherwise) {
+        return (request, response, ex) -> {
+            if (!respond(response, ex)) {
+                otherwise.onAuthenticationFailure(request, response, ex);
+            }
+        };
+    }
+
+    public AuthenticationEntryPoint entryPoint(AuthenticationEntryPoint otherwise) {
+        return (request, response, ex) -> {
+            if (!respond(response, ex)) {
+                otherwise.commence(request, response, ex);
+            }
+        };
+    }
+
+    private boolean respond(HttpServletResponse response, AuthenticationException ex) throws IOException {
+        if (!(ex instanceof PasswordCheckUnavailableException busy)) {
+            return false;
+        }
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "timestamp", Instant.now().toString(),
+                "code", "SERVICE_UNAVAILABLE",
+                "message", busy.getMessage()));
+        return true;
+    }
+}
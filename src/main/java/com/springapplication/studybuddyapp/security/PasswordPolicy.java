@@ -0,0 +1,129 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The one password strength policy, shared by signup, user creation, password changes and the
+ * {@code @StrongPassword} constraint.
+ * <p>
+ * {@link #check} walks the characters once and returns the failed {@link Rule}s as a bit mask, so
+ * the hot path allocates nothing; messages are only built for passwords that fail. Upper, lower and
+ * digit follow {@link Character}; anything else that is not whitespace counts as special.
+ * Length is in UTF-16 chars, and the default 72 matches BCrypt's input limit.
+ */
+@Component
+public class PasswordPolicy {
+
+    /** A single requirement; {@link #bit()} is its flag in a {@link #check} result. */
+    public enum Rule {
+        TOO_SHORT, TOO_LONG, NO_UPPER, NO_LOWER, NO_DIGIT, NO_SPECIAL;
+
+        public int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private static final Rule[] RULES = Rule.values();
+
+    private final int minLength;
+    private final int maxLength;
+    private final int required;
+
+    public PasswordPolicy(@Value("${app.security.password-policy.min-length:8}") int minLength,
+                          @Value("${app.security.password-policy.max-length:72}") int maxLength,
+                          @Value("${app.security.password-policy.require-upper:true}") boolean requireUpper,
+                          @Value("${app.security.password-policy.require-lower:true}") boolean requireLower,
+                          @Value("${app.security.password-policy.require-digit:true}") boolean requireDigit,
+                          @Value("${app.security.password-policy.require-special:true}") boolean requireSpecial) {
+        if (minLength < 1 || maxLength < minLength) {
+            throw new IllegalStateException("Password policy needs 1 <= min-length <= max-length, got "
+                    + minLength + ".." + maxLength);
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.required = (requireUpper ? Rule.NO_UPPER.bit() : 0)
+                | (requireLower ? Rule.NO_LOWER.bit() : 0)
+                | (requireDigit ? Rule.NO_DIGIT.bit() : 0)
+                | (requireSpecial ? Rule.NO_SPECIAL.bit() : 0);
+    }
+
+    /** 8-72 chars with upper, lower, digit and special; what the properties default to. */
+    public static PasswordPolicy defaults() {
+        return new PasswordPolicy(8, 72, true, true, true, true);
+    }
+
+    /** Failed rules as a mask of {@link Rule#bit()}s; 0 means the password is acceptable. Null fails as too short. */
+    public int check(CharSequence password) {
+        if (password == null) {
+            return Rule.TOO_SHORT.bit() | required;
+        }
+        int length = password.length();
+        int failed = length < minLength ? Rule.TOO_SHORT.bit() : length > maxLength ? Rule.TOO_LONG.bit() : 0;
+        int missing = required;
+        for (int i = 0; i < length && missing != 0; i++) {
+            char c = password.charAt(i);
+            if (Character.isUpperCase(c)) {
+                missing &= ~Rule.NO_UPPER.bit();
+            } else if (Character.isLowerCase(c)) {
+                missing &= ~Rule.NO_LOWER.bit();
+            } else if (Character.isDigit(c)) {
+                missing &= ~Rule.NO_DIGIT.bit();
+            } else if (!Character.isLetter(c) && !Character.isWhitespace(c)) {
+                missing &= ~Rule.NO_SPECIAL.bit();
+            }
+        }
+        return failed | missing;
+    }
+
+    public boolean isValid(CharSequence password) {
+        return check(password) == 0;
+    }
+
+    /** Throws a {@link BadRequestException} listing every failed rule. */
+    public void enforce(CharSequence password) {
+        int failed = check(password);
+        if (failed != 0) {
+            throw new BadRequestException(describe(failed));
+        }
+    }
+
+    /** One sentence covering every rule in {@code failed}, e.g. "Password must be at least 8 characters and include a digit." */
+    public String describe(int failed) {
+        StringBuilder message = new StringBuilder("Password must ");
+        int total = Integer.bitCount(failed);
+        int written = 0;
+        for (Rule rule : RULES) {
+            if ((failed & rule.bit()) == 0) {
+                continue;
+            }
+            if (written > 0) {
+                message.append(written == total - 1 ? " and " : ", ");
+            }
+            message.append(requirement(rule));
+            written++;
+        }
+        return message.append('.').toString();
+    }
+
+    /** What {@code rule} asks for, phrased to follow "Password must ". */
+    public String requirement(Rule rule) {
+        return switch (rule) {
+            case TOO_SHORT -> "be at least " + minLength + " characters";
+            case TOO_LONG -> "be at most " + maxLength + " characters";
+            case NO_UPPER -> "include an uppercase letter";
+            case NO_LOWER -> "include a lowercase letter";
+            case NO_DIGIT -> "include a digit";
+            case NO_SPECIAL -> "include a special character";
+        };
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+}
@@ -1,21 +1,37 @@
 // path: src/main/java/com/springapplication/studybuddyapp/security/SecurityInfraConfig.java
 package com.springapplication.studybuddyapp.security;
 
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.context.DelegatingSecurityContextRepository;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 
 /**
  * Infrastructure bean that persists the authenticated SecurityContext
- * into the HTTP session (used by /auth/login controller).
+ * (used by the security filter chain and the /auth/login controller).
+ * {@code app.security.context-repository=session} (default) keeps it in the HTTP session;
+ * {@code token} keeps it in a signed cookie/header token so no node holds session state.
  */
 @Configuration
 public class SecurityInfraConfig {
 
+    public static final String TOKEN_MODE = "token";
+
     @Bean
-    public SecurityContextRepository securityContextRepository() {
-        return new HttpSessionSecurityContextRepository();
+    public SecurityContextRepository securityContextRepository(
+            @Value("${app.security.context-repository:session}") String mode,
+            @Value("${app.security.token.keys:}") String keys,
+            @Value("${app.security.token.active-key-id:}") String activeKeyId,
+            @Value("${app.security.token.ttl:2h}") Duration ttl,
+            UserDetailsService userDetailsService) {
+        SecurityContextRepository store = TOKEN_MODE.equalsIgnoreCase(mode)
+                ? SignedTokenSecurityContextRepository.fromProperties(keys, activeKeyId, ttl, userDetailsService)
+                : new HttpSessionSecurityContextRepository();
+        return new DelegatingSecurityContextRepository(new RequestAttributeSecurityContextRepository(), store);
     }
 }
-
@@ -0,0 +1,244 @@
+package com.springapplication.studybuddyapp.security;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+/**
+ * Keeps the SecurityContext in a signed, expiring token instead of the HTTP session.
+ * <p>
+ * Token: {@code kid.expiry.base64(email).base64(credentialTag).base64(HMAC-SHA256)}. It travels in the
+ * {@value #COOKIE} cookie (browsers) or the {@value #HEADER} header (API clients). No session is held,
+ * so any node can serve any request.
+ * <p>
+ * The token carries no authorities. Every load re-reads the user through the {@link UserDetailsService}
+ * (served from {@link UserDetailsCache}) and takes the roles from there. A deleted, disabled or locked
+ * user, or a revoked role, therefore takes effect within the cache TTL rather than at token expiry.
+ * The credential tag is a keyed MAC of the stored password hash at login, so changing the password
+ * ends every token issued before the change.
+ * <p>
+ * Key rotation: new tokens are signed with the active key; tokens signed with any other configured
+ * key stay valid until they expire or that key is removed.
+ */
+public class SignedTokenSecurityContextRepository implements SecurityContextRepository {
+
+    public static final String COOKIE = "SB_AUTH";
+    public static final String HEADER = "X-Auth-Token";
+
+    private static final Logger log = LoggerFactory.getLogger(SignedTokenSecurityContextRepository.class);
+    private static final String HMAC = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64D = Base64.getUrlDecoder();
+    private static final int CREDENTIAL_TAG_BYTES = 16;
+
+    private final Map<String, SecretKeySpec> keys;
+    private final String activeKeyId;
+    private final Duration ttl;
+    private final Clock clock;
+    private final UserDetailsService users;
+
+    public SignedTokenSecurityContextRepository(Map<String, byte[]> keys, String activeKeyId,
+                                                Duration ttl, Clock clock, UserDetailsService users) {
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("Active token key '" + activeKeyId + "' is not configured");
+        }
+        this.keys = new LinkedHashMap<>();
+        keys.forEach((kid, secret) -> {
+            if (kid.isEmpty() || kid.contains(".")) {
+                throw new IllegalStateException("Token key id '" + kid + "' must be non-empty and contain no '.'");
+            }
+            if (secret.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("Token key '" + kid + "' must be at least " + MIN_KEY_BYTES + " bytes");
+            }
+            this.keys.put(kid, new SecretKeySpec(secret, HMAC));
+        });
+        this.activeKeyId = activeKeyId;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.users = users;
+    }
+
+    /**
+     * Builds the repository from {@code kid:base64secret,kid:base64secret}. With no keys configured a
+     * random one is generated, which only works for a single node and does not survive restarts.
+     */
+    public static SignedTokenSecurityContextRepository fromProperties(String keySpec, String activeKeyId, Duration ttl,
+                                                                      UserDetailsService users) {
+        Map<String, byte[]> keys = new LinkedHashMap<>();
+        for (String entry : keySpec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int colon = entry.indexOf(':');
+            if (colon <= 0) {
+                throw new IllegalStateException("Token keys must be formatted as kid:base64secret");
+            }
+            keys.put(entry.substring(0, colon).trim(), Base64.getDecoder().decode(entry.substring(colon + 1).trim()));
+        }
+        if (keys.isEmpty()) {
+            log.warn("No app.security.token.keys configured; using a random key (single node, lost on restart)");
+            byte[] secret = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(secret);
+            keys.put("ephemeral", secret);
+            activeKeyId = "ephemeral";
+        } else if (activeKeyId == null || activeKeyId.isBlank()) {
+            activeKeyId = keys.keySet().iterator().next();
+        }
+        return new SignedTokenSecurityContextRepository(keys, activeKeyId, ttl, Clock.systemUTC(), users);
+    }
+
+    /** Called lazily through the interface's default {@code loadDeferredContext}. */
+    @Override
+    public SecurityContext loadContext(HttpRequestResponseHolder holder) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        Authentication authentication = verify(readToken(holder.getRequest()));
+        if (authentication != null) {
+            context.setAuthentication(authentication);
+        }
+        return context;
+    }
+
+    /** Issues a fresh token on login; an empty or anonymous context (logout) clears the cookie. */
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            if (readToken(request) != null) {
+                writeCookie(request, response, "", Duration.ZERO);
+            }
+            return;
+        }
+        String token = issue(authentication);
+        writeCookie(request, response, token, ttl);
+        response.setHeader(HEADER, token);
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return verify(readToken(request)) != null;
+    }
+
+    String issue(Authentication authentication) {
+        SecretKeySpec key = keys.get(activeKeyId);
+        String email = authentication.getName();
+        byte[] tag = credentialTag(key, users.loadUserByUsername(email));
+        long expiry = clock.instant().plus(ttl).getEpochSecond();
+        String body = activeKeyId + "." + expiry + "." + encode(email) + "." + B64.encodeToString(tag);
+        return body + "." + B64.encodeToString(sign(key, body));
+    }
+
+    /**
+     * Authentication for a valid, unexpired token whose user still exists, is usable and has the same
+     * password as at login, or null. Authorities are the user's current ones.
+     */
+    Authentication verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length != 5) {
+            return null;
+        }
+        SecretKeySpec key = keys.get(parts[0]);
+        if (key == null) {
+            return null;
+        }
+        try {
+            String body = token.substring(0, token.lastIndexOf('.'));
+            if (!MessageDigest.isEqual(sign(key, body), B64D.decode(parts[4]))
+                    || Long.parseLong(parts[1]) <= clock.instant().getEpochSecond()) {
+                return null;
+            }
+            String email = decode(parts[2]);
+            UserDetails current = users.loadUserByUsername(email);
+            if (!current.isEnabled() || !current.isAccountNonLocked() || !current.isAccountNonExpired()
+                    || !MessageDigest.isEqual(credentialTag(key, current), B64D.decode(parts[3]))) {
+                return null;
+            }
+            User principal = new User(email, "", current.getAuthorities());
+            return UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+        } catch (UsernameNotFoundException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String readToken(HttpServletRequest request) {
+        String header = request.getHeader(HEADER);
+        if (header != null && !header.isBlank()) {
+            return header.trim();
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE, value)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    private static byte[] sign(SecretKeySpec key, String body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            return mac.doFinal(body.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+
+    /** Keyed MAC of the stored password hash; the hash itself never leaves the server. */
+    private static byte[] credentialTag(SecretKeySpec key, UserDetails user) {
+        String password = user.getPassword() == null ? "" : user.getPassword();
+        return Arrays.copyOf(sign(key, "credential:" + password), CREDENTIAL_TAG_BYTES);
+    }
+
+    private static String encode(String value) {
+        return B64.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(B64D.decode(value), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.springapplication.studybuddyapp.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket (GCRA form): the whole state is one "theoretical arrival time" updated by CAS.
+ * <p>
+ * Each permit pushes the arrival time forward by one emission interval; a request is allowed while
+ * that time stays within {@code capacity} intervals of now. Rejections never touch the CAS and are
+ * counted on a {@link LongAdder}, so no increment is lost under contention.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong arrival;
+    private final LongAdder rejected = new LongAdder();
+
+    /** {@code capacity} permits, refilled evenly over {@code refillPeriodNanos}. */
+    public TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+        if (capacity < 1 || refillPeriodNanos < capacity) {
+            throw new IllegalArgumentException("capacity must be >= 1 and refill period >= capacity nanos");
+        }
+        this.intervalNanos = refillPeriodNanos / capacity;
+        this.burstNanos = intervalNanos * capacity;
+        this.arrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one permit.
+     *
+     * @return 0 if allowed, otherwise nanoseconds until the next permit is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                rejected.increment();
+                return ahead - burstNanos;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Like {@link #tryAcquire} but takes nothing and records nothing. */
+    public long waitNanos(long nowNanos) {
+        long ahead = Math.max(arrival.get(), nowNanos) + intervalNanos - nowNanos;
+        return ahead > burstNanos ? ahead - burstNanos : 0;
+    }
+
+    /** Counts a rejection decided by {@link #waitNanos}. */
+    public void recordRejection() {
+        rejected.increment();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
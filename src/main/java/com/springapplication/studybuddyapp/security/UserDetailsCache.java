@@ -0,0 +1,94 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.springapplication.studybuddyapp.service.UserChangedEvent;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Bounded, time-limited cache of {@link UserDetails} keyed by normalized email.
+ * <p>
+ * Entries are stored as immutable snapshots and a fresh {@link UserDetails} is built on every read,
+ * because the authentication manager erases credentials on the instance it is handed.
+ * Entries are dropped after the transaction that changed the user commits.
+ * <p>
+ * That invalidation only reaches this node. Other nodes keep serving the old password hash and roles
+ * until the entry expires, so the TTL is the cluster-wide delay before a password change, role revoke
+ * or delete takes effect: keep it to seconds. It still absorbs bursts of HTTP Basic calls, which look
+ * the same user up on every request.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, Snapshot> cache;
+
+    public UserDetailsCache(@Value("${app.security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${app.security.user-cache.ttl:5s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /** Returns the cached user for {@code email}, loading it on a miss. Loader exceptions are not cached. */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        return cache.get(key(email), k -> Snapshot.of(loader.apply(email))).toUserDetails();
+    }
+
+    /** Drops the entry for {@code email}, if any. */
+    public void invalidate(String email) {
+        cache.invalidate(key(email));
+    }
+
+    /** Invalidates every email touched by the change, after the writing transaction commits. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        event.emails().forEach(this::invalidate);
+    }
+
+    /** Hit, miss and eviction counters since startup. */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static String key(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Immutable copy of the fields Spring Security reads from a {@link UserDetails}. */
+    private record Snapshot(String username, String password, Set<GrantedAuthority> authorities,
+                            boolean enabled, boolean accountNonExpired,
+                            boolean accountNonLocked, boolean credentialsNonExpired) {
+
+        static Snapshot of(UserDetails u) {
+            return new Snapshot(u.getUsername(), u.getPassword(), Set.copyOf(u.getAuthorities()),
+                    u.isEnabled(), u.isAccountNonExpired(), u.isAccountNonLocked(), u.isCredentialsNonExpired());
+        }
+
+        UserDetails toUserDetails() {
+            return User.withUsername(username)
+                    .password(password)
+                    .authorities(authorities)
+                    .disabled(!enabled)
+                    .accountExpired(!accountNonExpired)
+                    .accountLocked(!accountNonLocked)
+                    .credentialsExpired(!credentialsNonExpired)
+                    .build();
+        }
+    }
+}
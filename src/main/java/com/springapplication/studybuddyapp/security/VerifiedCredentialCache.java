@@ -0,0 +1,100 @@
+package com.springapplication.studybuddyapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.springapplication.studybuddyapp.service.UserChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Locale;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Remembers recently verified (email, password) pairs so repeated HTTP Basic calls skip BCrypt.
+ * <p>
+ * Only an HMAC-SHA256 digest of the pair is kept, under a random key generated at startup, so the
+ * cache never holds a password and its contents are useless outside this process.
+ * The digest also covers the stored password hash the pair was verified against, and callers pass
+ * the current one: once a password changes, entries for the old one stop matching on every node,
+ * with no event to miss or race.
+ * Enabled with {@code app.security.credential-cache.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.credential-cache.enabled", havingValue = "true")
+public class VerifiedCredentialCache {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final Cache<String, byte[]> cache;
+    private final SecretKeySpec key;
+
+    public VerifiedCredentialCache(@Value("${app.security.credential-cache.max-size:10000}") long maxSize,
+                                   @Value("${app.security.credential-cache.ttl:60s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC);
+    }
+
+    /** True if this exact pair was verified within the TTL against the user's current {@code storedHash}. */
+    public boolean matches(String email, String storedHash, CharSequence password) {
+        byte[] remembered = cache.getIfPresent(key(email));
+        return remembered != null && MessageDigest.isEqual(remembered, digest(key(email), storedHash, password));
+    }
+
+    /** Records a pair the delegate provider has just verified against {@code storedHash}. */
+    public void remember(String email, String storedHash, CharSequence password) {
+        String k = key(email);
+        cache.put(k, digest(k, storedHash, password));
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(key(email));
+    }
+
+    /** A password change, email change or deletion makes any remembered verification stale. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() != UserChangedEvent.Type.ROLES_CHANGED) {
+            event.emails().forEach(this::invalidate);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private byte[] digest(String email, String storedHash, CharSequence password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            mac.update(email.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(storedHash.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+
+    private static String key(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -4,19 +4,22 @@ package com.springapplication.studybuddyapp.service;
 import com.springapplication.studybuddyapp.api.dto.UserResponse;
 import com.springapplication.studybuddyapp.exception.BadRequestException;
 import com.springapplication.studybuddyapp.exception.ConflictException;
-import com.springapplication.studybuddyapp.exception.NotFoundException;
 import com.springapplication.studybuddyapp.model.Role;
 import com.springapplication.studybuddyapp.model.User;
 import com.springapplication.studybuddyapp.model.UserRole;
-import com.springapplication.studybuddyapp.repository.RoleRepository;
 import com.springapplication.studybuddyapp.repository.UserRepository;
 import com.springapplication.studybuddyapp.repository.UserRoleRepository;
-import jakarta.transaction.Transactional;
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
+import io.micrometer.core.annotation.Timed;
 import java.util.Set;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Authentication-related actions (e.g., signup).
@@ -25,52 +28,73 @@ import org.springframework.stereotype.Service;
 @Transactional
 public class AuthService {
 
-    private static final Pattern STRONG_PASSWORD = Pattern.compile(
-            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[~!@#$%^&*()_+\\-={}\\[\\]|:;\"'<>,.?/]).{8,72}$"
-    );
-
     private final UserRepository users;
-    private final RoleRepository roles;
+    private final RoleCatalog roles;
     private final UserRoleRepository userRoles;
     private final PasswordEncoder encoder;
+    private final TransactionTemplate transactions;
+    private final EmailBloomFilter emails;
+    private final PasswordPolicy passwordPolicy;
 
-    public AuthService(UserRepository users, RoleRepository roles, UserRoleRepository userRoles, PasswordEncoder encoder) {
+    public AuthService(UserRepository users, RoleCatalog roles, UserRoleRepository userRoles,
+                       @Qualifier(BoundedPasswordEncoder.BEAN_NAME) PasswordEncoder encoder,
+                       TransactionTemplate transactions, EmailBloomFilter emails, PasswordPolicy passwordPolicy) {
         this.users = users;
         this.roles = roles;
         this.userRoles = userRoles;
         this.encoder = encoder;
+        this.transactions = transactions;
+        this.emails = emails;
+        this.passwordPolicy = passwordPolicy;
+    }
+
+    /**
+     * Cheap availability check for the signup form; definitely-new emails never reach the database.
+     * Both the Bloom filter (which lags other nodes' signups) and a read-only replica may call a
+     * just-taken email available. That is only a hint: {@link #signup} always runs its duplicate check
+     * on the primary, and the unique index on {@code lower(email)} settles a remaining race.
+     */
+    @Transactional(readOnly = true)
+    public boolean isEmailAvailable(String email) {
+        if (email == null || email.isBlank()) {
+            throw new BadRequestException("Email is required");
+        }
+        return !emails.mightContain(email) || !users.existsByEmailIgnoreCase(email.trim());
     }
 
     /**
      * Sign up a new user.
-     * Ensures unique email, validates strength, hashes password,
+     * Ensures unique email, enforces the {@link PasswordPolicy}, hashes password (before the write transaction),
      * assigns default role (ROLE_USER preferred; USER fallback) and returns a DTO.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = "auth.signup", histogram = true)
     public UserResponse signup(String username, String email, String rawPassword) {
         if (users.existsByEmailIgnoreCase(email)) {
             throw new ConflictException("Email already in use: " + email);
         }
-        if (rawPassword == null || !STRONG_PASSWORD.matcher(rawPassword).matches()) {
-            throw new BadRequestException("Password must be 8-72 chars and include upper, lower, digit, special.");
-        }
+        passwordPolicy.enforce(rawPassword);
+
+        String hash = encoder.encode(rawPassword);
+        emails.put(email);
 
-        User u = new User();
-        u.setName(username);
-        u.setEmail(email);
-        u.setPasswordHash(encoder.encode(rawPassword));
-        u = users.save(u);
+        return transactions.execute(status -> {
+            User u = new User();
+            u.setName(username);
+            u.setEmail(email);
+            u.setPasswordHash(hash);
+            u = users.save(u);
 
-        // Resolve default role
-        Role defaultRole = roles.findByName("ROLE_USER")
-                .orElseGet(() -> roles.findByName("USER")
-                        .orElseThrow(() -> new NotFoundException("Default role ROLE_USER/USER not found")));
+            // Resolve default role (from the in-memory catalog, no query)
+            Role defaultRole = roles.defaultRole();
 
-        // Persist link
-        userRoles.save(new UserRole(u, defaultRole));
+            // Persist link
+            userRoles.save(new UserRole(u, defaultRole));
 
-        // Build response directly from what we assigned (no reload)
-        java.util.Set<String> roleNames = java.util.Set.of(defaultRole.getName());
-        return new UserResponse(u.getId(), u.getName(), u.getEmail(), roleNames, u.getCreatedAt());
+            // Build response directly from what we assigned (no reload)
+            java.util.Set<String> roleNames = java.util.Set.of(defaultRole.getName());
+            return new UserResponse(u.getId(), u.getName(), u.getEmail(), roleNames, u.getCreatedAt());
+        });
     }
 
     // (other methods unchanged)
@@ -0,0 +1,72 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.springapplication.studybuddyapp.api.dto.BulkRoleChangeRequest;
+import com.springapplication.studybuddyapp.api.dto.BulkRoleChangeResponse;
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.exception.NotFoundException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import com.springapplication.studybuddyapp.repository.UserRoleBulkRepository;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Grants or revokes a role for a cohort of users in one statement, instead of the
+ * load-check-insert round trips of {@link UserService#addRole} per user.
+ * <p>
+ * One {@link UserChangedEvent} carrying every changed email is published, so per-user caches
+ * drop exactly the users whose roles moved once the transaction commits.
+ */
+@Service
+@Transactional
+public class BulkRoleService {
+
+    private final UserRoleBulkRepository bulk;
+    private final RoleCatalog roles;
+    private final ApplicationEventPublisher events;
+
+    public BulkRoleService(UserRoleBulkRepository bulk, RoleCatalog roles, ApplicationEventPublisher events) {
+        this.bulk = bulk;
+        this.roles = roles;
+        this.events = events;
+    }
+
+    public BulkRoleChangeResponse grant(BulkRoleChangeRequest req) {
+        Role role = role(req.getRoleName());
+        List<String> changed = bulk.grant(role.getId(), req.getUserIds(), filter(req));
+        return done(req, role, changed);
+    }
+
+    public BulkRoleChangeResponse revoke(BulkRoleChangeRequest req) {
+        Role role = role(req.getRoleName());
+        List<String> changed = bulk.revoke(role.getId(), req.getUserIds(), filter(req));
+        return done(req, role, changed);
+    }
+
+    private BulkRoleChangeResponse done(BulkRoleChangeRequest req, Role role, List<String> changed) {
+        if (!changed.isEmpty()) {
+            events.publishEvent(new UserChangedEvent(null, UserChangedEvent.Type.ROLES_CHANGED, changed));
+        }
+        Integer requested = req.getUserIds() == null ? null : req.getUserIds().size();
+        return new BulkRoleChangeResponse(role.getName(), requested, changed.size());
+    }
+
+    private Role role(String name) {
+        return roles.find(name).orElseThrow(() -> new NotFoundException("Role not found: " + name));
+    }
+
+    /** The filter part of the request; refuses a request that would select every user. */
+    private Filter filter(BulkRoleChangeRequest req) {
+        Integer hasRoleId = null;
+        if (req.getHasRole() != null && !req.getHasRole().isBlank()) {
+            hasRoleId = role(req.getHasRole().trim()).getId();
+        }
+        Filter filter = new Filter(hasRoleId, req.getCreatedFrom(), req.getCreatedTo());
+        if (filter.isEmpty() && (req.getUserIds() == null || req.getUserIds().isEmpty())) {
+            throw new BadRequestException("Select users by userIds or by hasRole/createdFrom/createdTo");
+        }
+        return filter;
+    }
+}
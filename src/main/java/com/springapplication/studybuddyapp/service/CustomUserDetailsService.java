@@ -3,6 +3,8 @@ package com.springapplication.studybuddyapp.service;
 
 import com.springapplication.studybuddyapp.model.User;
 import com.springapplication.studybuddyapp.repository.UserRepository;
+import com.springapplication.studybuddyapp.security.UserDetailsCache;
+import io.micrometer.core.annotation.Timed;
 
 import java.util.Collection;
 import java.util.Set;
@@ -14,20 +16,41 @@ import org.springframework.stereotype.Service;
 
 /**
  * Loads users from the database for Spring Security authentication.
- * We use email as the username field.
+ * We use email as the username field. Lookups go through {@link UserDetailsCache},
+ * so repeated logins and HTTP Basic calls skip the fetch-join query. Misses always query the
+ * database: the {@link EmailBloomFilter} lags signups and email changes made on other nodes, so it
+ * is never trusted to reject a login.
+ * Also stores re-hashed passwords when the encoder asks for an upgrade after a successful login.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository users;
-
-    public CustomUserDetailsService(UserRepository users) {
+    private final UserDetailsCache cache;
+    public CustomUserDetailsService(UserRepository users, UserDetailsCache cache) {
         this.users = users;
+        this.cache = cache;
     }
 
-    /** Loads a user by email and maps domain roles to Spring authorities. */
+    /** Loads a user by email, serving repeat lookups from the cache. */
     @Override
+    @Timed(value = "auth.user.load", histogram = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return cache.get(email, this::load);
+    }
+
+    /** Persists a hash produced with the current cost factor and drops the stale cached entry. */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        users.updatePasswordHashByEmail(user.getUsername(), newPassword);
+        cache.invalidate(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+
+    /** Loads a user by email and maps domain roles to Spring authorities. */
+    private UserDetails load(String email) {
         User u = users.findByEmailIgnoreCaseWithRoles(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
@@ -0,0 +1,195 @@
+package com.springapplication.studybuddyapp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory Bloom filter of normalized user emails.
+ * <p>
+ * {@link #mightContain} returning false means the email is definitely not registered and the caller
+ * may skip the database; true means "maybe" and the caller runs its usual query. Until the first
+ * {@link #rebuild} completes every answer is "maybe", so nothing is skipped on a cold start.
+ * Bits are set with CAS on an {@link AtomicLongArray}, so lookups and inserts never lock.
+ * Emails that are changed or deleted stay set until the next rebuild, which only costs a query.
+ * <p>
+ * Each node has its own copy, fed by its own {@link #put}s and the loader's periodic refresh, so it can
+ * lag signups and email changes made on other nodes. "Absent" is therefore only a hint for answers
+ * that may be wrong (the signup form's availability check); duplicate checks before a write and
+ * logins always query the database.
+ */
+@Component
+public class EmailBloomFilter {
+
+    /** How long a put is replayed into rebuilds: comfortably longer than a signup transaction. */
+    static final Duration RECENT_PUT_WINDOW = Duration.ofMinutes(1);
+
+    private final int words;
+    private final long bits;
+    private final int hashes;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray building;
+    private volatile boolean ready;
+    /** Bumped when a rebuild starts and when it swaps, so a {@link #put} racing either one repeats. */
+    private final AtomicLong generation = new AtomicLong();
+    /** Recent puts, replayed by a rebuild whose scan may not see their not-yet-committed rows. */
+    private final ConcurrentLinkedQueue<RecentPut> recent = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder maybePresent = new LongAdder();
+
+    public EmailBloomFilter(@Value("${app.users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${app.users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        double optimalBits = -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.words = (int) Math.max(1, Math.min(Integer.MAX_VALUE - 8, (long) Math.ceil(optimalBits / 64)));
+        this.bits = (long) words * 64;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        this.current = new AtomicLongArray(words);
+    }
+
+    /** False only if the email was never added; null counts as "maybe" so callers keep their checks. */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        boolean maybe = test(current, normalize(email));
+        (maybe ? maybePresent : definitelyAbsent).increment();
+        return maybe;
+    }
+
+    /** Adds an email; call before inserting it so concurrent checks never see a false "absent". */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalize(email);
+        long now = System.nanoTime();
+        recent.add(new RecentPut(key, now));
+        if (building == null) {
+            pruneRecent(now); // a running rebuild still needs everything since its start minus the window
+        }
+        long seen;
+        do {
+            seen = generation.get();
+            set(current, key);
+            AtomicLongArray next = building;
+            if (next != null) {
+                set(next, key);
+            }
+        } while (generation.get() != seen);
+    }
+
+    /**
+     * Replaces the contents with what {@code source} feeds in. Emails {@link #put} meanwhile land in both
+     * the old and the new bit set, and puts from the {@link #RECENT_PUT_WINDOW} before it started are added
+     * again in case their rows were not committed yet when the source read the table. If the source throws, the
+     * old bit set stays in use.
+     */
+    public void rebuild(Consumer<Consumer<String>> source) {
+        AtomicLongArray fresh = new AtomicLongArray(words);
+        long cutoff = System.nanoTime() - RECENT_PUT_WINDOW.toNanos();
+        building = fresh;
+        generation.incrementAndGet();
+        try {
+            source.accept(email -> set(fresh, normalize(email)));
+            for (RecentPut put : recent) {
+                if (put.nanos() - cutoff >= 0) {
+                    set(fresh, put.key());
+                }
+            }
+            current = fresh;
+            ready = true;
+        } finally {
+            generation.incrementAndGet();
+            building = null;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Size, fill ratio and the lookups it answered, for the admin endpoint. */
+    public Map<String, Object> stats() {
+        AtomicLongArray snapshot = current;
+        long set = 0;
+        for (int i = 0; i < snapshot.length(); i++) {
+            set += Long.bitCount(snapshot.get(i));
+        }
+        double fill = (double) set / bits;
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("ready", ready);
+        m.put("bits", bits);
+        m.put("hashes", hashes);
+        m.put("fillRatio", fill);
+        m.put("estimatedFalsePositiveRate", Math.pow(fill, hashes));
+        m.put("definitelyAbsent", definitelyAbsent.sum());
+        m.put("maybePresent", maybePresent.sum());
+        return m;
+    }
+
+    private boolean test(AtomicLongArray array, String key) {
+        long h1 = hash(key, 0);
+        long h2 = hash(key, 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if ((array.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void set(AtomicLongArray array, String key) {
+        long h1 = hash(key, 0);
+        long h2 = hash(key, 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long old;
+            do {
+                old = array.get(word);
+            } while ((old & mask) == 0 && !array.compareAndSet(word, old, old | mask));
+        }
+    }
+
+    /** FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 64-bit mixer. */
+    private static long hash(String key, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private void pruneRecent(long now) {
+        long cutoff = now - RECENT_PUT_WINDOW.toNanos();
+        RecentPut head;
+        while ((head = recent.peek()) != null && head.nanos() - cutoff < 0) {
+            recent.remove(head);
+        }
+    }
+
+    private record RecentPut(String key, long nanos) { }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,101 @@
+package com.springapplication.studybuddyapp.service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills {@link EmailBloomFilter} from the {@code users} table.
+ * <p>
+ * The first build runs once the app is ready, as a forward-only cursor scan in a read-only
+ * transaction so the emails are never held in memory together. Every refresh interval, users with a
+ * higher id than the previous scan saw are added (this picks up signups served by other nodes);
+ * a periodic full rebuild drops deleted emails and adds emails changed on other nodes.
+ */
+@Component
+public class EmailBloomFilterLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailBloomFilterLoader.class);
+    private static final String SCAN = "SELECT id, email FROM users WHERE id > ? ORDER BY id";
+
+    private final EmailBloomFilter filter;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readOnly;
+    private final int fetchSize;
+
+    /** Highest id seen by the scan before last; rescanning from here covers ids that committed late. */
+    private final AtomicLong rescanFrom = new AtomicLong();
+    private final AtomicLong highestSeen = new AtomicLong();
+
+    public EmailBloomFilterLoader(EmailBloomFilter filter, JdbcTemplate jdbc, PlatformTransactionManager txManager,
+                                  @Value("${app.users.email-filter.fetch-size:1000}") int fetchSize) {
+        this.filter = filter;
+        this.jdbc = jdbc;
+        this.readOnly = new TransactionTemplate(txManager);
+        this.readOnly.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.email-filter.rebuild-interval:5m}",
+               initialDelayString = "${app.users.email-filter.rebuild-interval:5m}")
+    public void rebuild() {
+        long start = System.nanoTime();
+        try {
+            AtomicLong count = new AtomicLong();
+            AtomicLong max = new AtomicLong();
+            filter.rebuild(sink -> scan(0, email -> {
+                sink.accept(email);
+                count.incrementAndGet();
+            }, max));
+            rescanFrom.set(max.get());
+            highestSeen.set(max.get());
+            log.info("Email filter built from {} users in {} ms", count.get(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Email filter build failed; lookups fall through to the database", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.email-filter.refresh-interval:30s}",
+               initialDelayString = "${app.users.email-filter.refresh-interval:30s}")
+    public void refresh() {
+        if (!filter.isReady()) {
+            return;
+        }
+        try {
+            AtomicLong max = new AtomicLong(highestSeen.get());
+            scan(rescanFrom.get(), filter::put, max);
+            rescanFrom.set(highestSeen.get());
+            highestSeen.set(max.get());
+        } catch (RuntimeException e) {
+            log.warn("Email filter refresh failed", e);
+        }
+    }
+
+    private void scan(long afterId, Consumer<String> emails, AtomicLong maxId) {
+        readOnly.executeWithoutResult(status -> jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SCAN, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, afterId);
+            return ps;
+        }, rs -> {
+            emails.accept(rs.getString(2));
+            maxId.accumulateAndGet(rs.getLong(1), Math::max);
+        }));
+    }
+}
@@ -0,0 +1,112 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.exception.ConflictException;
+import com.springapplication.studybuddyapp.repository.ReactiveUserRepository;
+import com.springapplication.studybuddyapp.repository.ReactiveUserRepository.Credentials;
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.AuthenticationEventPublisher;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Signup and login for the {@code /reactive/auth} endpoints: the same rules as {@link AuthService}
+ * and the DAO login, but no thread waits on the database or on BCrypt. Queries run on R2DBC and
+ * hashes on the {@link BoundedPasswordEncoder} pool, whose full queue fails the {@link Mono} with
+ * the usual 503.
+ * <p>
+ * Logins publish the same success/failure events as the {@code AuthenticationManager}, so
+ * {@code auth.login} counts them (under channel {@code other}, as they finish off the request thread).
+ */
+@Service
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveAuthService {
+
+    private final ReactiveUserRepository users;
+    private final RoleCatalog roles;
+    private final BoundedPasswordEncoder encoder;
+    private final EmailBloomFilter emails;
+    private final PasswordPolicy passwordPolicy;
+    private final AuthenticationEventPublisher events;
+    /**
+     * Unknown emails are checked against this hash so they take as long as wrong passwords. Hashed once
+     * here rather than lazily: a lazily cached hash would also cache a 503 from a full queue, and every
+     * unknown email would then fail differently from a known one.
+     */
+    private final String unknownUserHash;
+
+    public ReactiveAuthService(ReactiveUserRepository users, RoleCatalog roles,
+                               @Qualifier(BoundedPasswordEncoder.BEAN_NAME) BoundedPasswordEncoder encoder,
+                               EmailBloomFilter emails, PasswordPolicy passwordPolicy,
+                               AuthenticationEventPublisher events) {
+        this.users = users;
+        this.roles = roles;
+        this.encoder = encoder;
+        this.emails = emails;
+        this.passwordPolicy = passwordPolicy;
+        this.events = events;
+        this.unknownUserHash = encoder.encode("userNotFoundPassword");
+    }
+
+    /**
+     * Same checks and default role as {@link AuthService#signup}; the user and its role link commit together.
+     * The duplicate check always queries (the Bloom filter lags other nodes); a signup racing it loses on
+     * the unique {@code lower(email)} index with a 409.
+     * The default role may be loaded through JPA on a cold catalog, so it is looked up off the event loop.
+     */
+    public Mono<UserResponse> signup(String username, String email, String rawPassword) {
+        return users.existsByEmailIgnoreCase(email)
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new ConflictException("Email already in use: " + email));
+                    }
+                    passwordPolicy.enforce(rawPassword);
+                    return Mono.fromFuture(() -> encoder.encodeAsync(rawPassword));
+                })
+                .flatMap(hash -> Mono.fromCallable(roles::defaultRole)
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(role -> {
+                            emails.put(email);
+                            return users.insert(username, email, hash, role);
+                        }));
+    }
+
+    /**
+     * Verifies email and password and returns an authenticated token whose principal is a
+     * {@link User} with the stored email and role authorities, like the DAO login produces.
+     * Fails with {@link BadCredentialsException} for an unknown email or a wrong password.
+     * <p>
+     * The email is always looked up: the Bloom filter may lag behind a signup on another node, so a
+     * miss there must not turn into a rejected login.
+     */
+    public Mono<Authentication> authenticate(String email, String rawPassword) {
+        UsernamePasswordAuthenticationToken attempt = UsernamePasswordAuthenticationToken.unauthenticated(email, rawPassword);
+        return users.findCredentials(email).map(Optional::of).defaultIfEmpty(Optional.empty())
+                .flatMap(user -> Mono.fromFuture(() -> encoder.matchesAsync(rawPassword,
+                                user.map(Credentials::passwordHash).orElse(unknownUserHash)))
+                        .flatMap(matches -> matches && user.isPresent()
+                                ? Mono.just(authenticated(user.get()))
+                                : Mono.error(new BadCredentialsException("Bad credentials"))))
+                .doOnNext(events::publishAuthenticationSuccess)
+                .doOnError(AuthenticationException.class,
+                        ex -> events.publishAuthenticationFailure(ex, attempt));
+    }
+
+    private static Authentication authenticated(Credentials user) {
+        List<SimpleGrantedAuthority> authorities = user.roles().stream().map(SimpleGrantedAuthority::new).toList();
+        User principal = new User(user.email(), "", authorities);
+        return UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+    }
+}
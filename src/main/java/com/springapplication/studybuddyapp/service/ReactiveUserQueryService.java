@@ -0,0 +1,76 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.springapplication.studybuddyapp.api.dto.UserPageResponse;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.exception.NotFoundException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.ReactiveUserRepository;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Keyset;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Order;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link UserQueryService} on R2DBC: same page sizes, filters and cursors, so a cursor from one
+ * stack is valid on the other.
+ */
+@Service
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveUserQueryService {
+
+    private final ReactiveUserRepository reads;
+    private final RoleCatalog roles;
+    private final int defaultSize;
+    private final int maxSize;
+
+    public ReactiveUserQueryService(ReactiveUserRepository reads, RoleCatalog roles,
+                                    @Value("${app.users.page.default-size:50}") int defaultSize,
+                                    @Value("${app.users.page.max-size:200}") int maxSize) {
+        this.reads = reads;
+        this.roles = roles;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /** User with roles by id, or 404. */
+    public Mono<UserResponse> get(long id) {
+        return reads.findById(id).switchIfEmpty(Mono.error(() -> new NotFoundException("User not found: " + id)));
+    }
+
+    /** See {@link UserQueryService#list}; a bad cursor fails the {@link Mono} with 400. */
+    public Mono<UserPageResponse> list(Order order, String role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                       String cursor, Integer size) {
+        int limit = size == null ? defaultSize : Math.max(1, Math.min(size, maxSize));
+        Integer roleId = null;
+        if (role != null && !role.isBlank()) {
+            Optional<Role> found = roles.find(role.trim());
+            if (found.isEmpty()) {
+                return Mono.just(new UserPageResponse(List.of(), null));
+            }
+            roleId = found.get().getId();
+        }
+        Keyset after;
+        try {
+            after = cursor == null || cursor.isBlank() ? null : UserQueryService.decode(order, cursor);
+        } catch (RuntimeException ex) {
+            return Mono.error(ex);
+        }
+
+        // one extra row tells us whether there is a next page without a count query
+        return reads.findPage(order, new Filter(roleId, createdFrom, createdTo), after, limit + 1)
+                .collectList()
+                .map(rows -> {
+                    if (rows.size() <= limit) {
+                        return new UserPageResponse(rows, null);
+                    }
+                    List<UserResponse> page = rows.subList(0, limit);
+                    return new UserPageResponse(List.copyOf(page), UserQueryService.encode(order, page.get(limit - 1)));
+                });
+    }
+}
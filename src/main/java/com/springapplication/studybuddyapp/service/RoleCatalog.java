@@ -0,0 +1,108 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.springapplication.studybuddyapp.exception.NotFoundException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.RoleRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory copy of the {@code roles} table.
+ * <p>
+ * Reads use an immutable id/name snapshot held in an {@link AtomicReference}, so the hot paths
+ * (signup, create user, add role) resolve roles without a query or a lock. The snapshot is reloaded
+ * after a role is written on this node (see {@link RoleCatalogListener}) and on a timer for writes
+ * made elsewhere. A name missing from the snapshot is looked up once and copied into a new snapshot.
+ * <p>
+ * Callers get a fresh, detached {@link Role} carrying only id and name, which is all a
+ * {@code UserRole} link needs; changing it does not affect the catalog.
+ */
+@Component
+public class RoleCatalog {
+
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    private static final String LEGACY_DEFAULT_ROLE = "USER";
+
+    private record Snapshot(Map<String, Integer> idsByName) {
+        Snapshot with(String name, Integer id) {
+            Map<String, Integer> copy = new HashMap<>(idsByName);
+            copy.put(name, id);
+            return new Snapshot(Map.copyOf(copy));
+        }
+    }
+
+    private final RoleRepository roles;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public RoleCatalog(RoleRepository roles) {
+        this.roles = roles;
+    }
+
+    /** Role by exact name, or empty if no such row exists. */
+    public Optional<Role> find(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        Integer id = current().idsByName().get(name);
+        if (id != null) {
+            return Optional.of(copy(id, name));
+        }
+        return roles.findByName(name).map(role -> {
+            if (role.getId() != null) {
+                snapshot.updateAndGet(s -> s == null ? null : s.with(role.getName(), role.getId()));
+            }
+            return copy(role.getId(), role.getName());
+        });
+    }
+
+    /** Role given to new users: ROLE_USER, or USER for older data. */
+    public Role defaultRole() {
+        return find(DEFAULT_ROLE)
+                .or(() -> find(LEGACY_DEFAULT_ROLE))
+                .orElseThrow(() -> new NotFoundException("Default role ROLE_USER/USER not found"));
+    }
+
+    public Set<String> names() {
+        return current().idsByName().keySet();
+    }
+
+    /** Drops the snapshot; the next read reloads it. */
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.roles.catalog.refresh-interval:10m}",
+               initialDelayString = "${app.roles.catalog.refresh-interval:10m}")
+    public void reload() {
+        snapshot.set(load());
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot.get();
+        if (s == null) {
+            s = load();
+            snapshot.compareAndSet(null, s);
+        }
+        return s;
+    }
+
+    private Snapshot load() {
+        Map<String, Integer> idsByName = new HashMap<>();
+        roles.findAll().forEach(r -> idsByName.put(r.getName(), r.getId()));
+        return new Snapshot(Map.copyOf(idsByName));
+    }
+
+    private static Role copy(Integer id, String name) {
+        Role role = new Role(name);
+        role.setId(id);
+        return role;
+    }
+}
@@ -0,0 +1,39 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.springapplication.studybuddyapp.model.Role;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener on {@link Role} that refreshes {@link RoleCatalog} once a role write commits.
+ * Hibernate obtains it from the Spring context; the catalog is looked up lazily because the
+ * listener is created together with the EntityManagerFactory the catalog depends on.
+ */
+public class RoleCatalogListener {
+
+    private final ObjectProvider<RoleCatalog> catalog;
+
+    public RoleCatalogListener(ObjectProvider<RoleCatalog> catalog) {
+        this.catalog = catalog;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void roleChanged(Role role) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    catalog.ifAvailable(RoleCatalog::invalidate);
+                }
+            });
+        } else {
+            catalog.ifAvailable(RoleCatalog::invalidate);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.springapplication.studybuddyapp.service;
+
+import java.util.List;
+
+/**
+ * Published by {@link UserService} whenever a user's credentials, profile or roles change, and by
+ * {@link BulkRoleService} once per cohort. Listeners that cache per-user state react to it once the
+ * surrounding transaction commits.
+ *
+ * @param userId id of the affected user, or null for a bulk change spanning many users
+ * @param type   what changed
+ * @param emails every email the change affects (old and new address on an email change)
+ */
+public record UserChangedEvent(Long userId, Type type, List<String> emails) {
+
+    public enum Type { PROFILE_UPDATED, PASSWORD_CHANGED, ROLES_CHANGED, DELETED }
+
+    public UserChangedEvent(Long userId, Type type, String... emails) {
+        this(userId, type, List.of(emails));
+    }
+}
@@ -0,0 +1,108 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.repository.UserReadRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes the whole user directory as NDJSON (one {@code GET /api/users} item per line) or CSV.
+ * <p>
+ * Rows are read in id-keyset pages of {@code app.users.export.page-size}, each in its own short
+ * read-only transaction, and a page is written only after its transaction has ended. A slow client
+ * therefore holds no connection, snapshot or transaction while it drains the response; heap use is
+ * one page, whatever the number of users. Users added during the export appear if their id is past
+ * the current page; the output is not a single point-in-time snapshot.
+ */
+@Service
+public class UserExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String CSV_HEADER = "id,name,email,roles,created_at\n";
+    private static final UserReadRepository.Filter ALL = new UserReadRepository.Filter(null, null, null);
+
+    private final UserReadRepository reads;
+    private final TransactionTemplate readOnly;
+    private final ObjectWriter rowWriter;
+    private final int pageSize;
+
+    public UserExportService(UserReadRepository reads, PlatformTransactionManager txManager, ObjectMapper objectMapper,
+                             @Value("${app.users.export.page-size:1000}") int pageSize) {
+        this.reads = reads;
+        this.readOnly = new TransactionTemplate(txManager);
+        this.readOnly.setReadOnly(true);
+        this.rowWriter = objectMapper.writerFor(UserResponse.class);
+        this.pageSize = pageSize;
+    }
+
+    /** Streams every user to {@code out}; returns the number of rows written. Does not close {@code out}. */
+    public long export(Format format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        try {
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+            }
+            UserReadRepository.Keyset after = null;
+            List<UserResponse> page;
+            do {
+                UserReadRepository.Keyset from = after;
+                page = readOnly.execute(status -> reads.findPage(UserReadRepository.Order.ID, ALL, from, pageSize));
+                for (UserResponse user : page) {
+                    if (format == Format.CSV) {
+                        writeCsv(writer, user);
+                    } else {
+                        writer.write(rowWriter.writeValueAsString(user));
+                        writer.write('\n');
+                    }
+                }
+                count += page.size();
+                if (!page.isEmpty()) {
+                    after = new UserReadRepository.Keyset(null, page.get(page.size() - 1).getId());
+                }
+                writer.flush(); // hand the page to the client before fetching the next one
+            } while (page.size() == pageSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private static void writeCsv(Writer writer, UserResponse user) throws IOException {
+        writer.write(String.valueOf(user.getId()));
+        writer.write(',');
+        writer.write(csv(user.getName()));
+        writer.write(',');
+        writer.write(csv(user.getEmail()));
+        writer.write(',');
+        writer.write(csv(String.join(";", user.getRoles())));
+        writer.write(',');
+        writer.write(String.valueOf(user.getCreatedAt()));
+        writer.write('\n');
+    }
+
+    /** RFC 4180 quoting, plus a leading quote for cells a spreadsheet would run as a formula. */
+    static String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String cell = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0 && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+            return cell;
+        }
+        return '"' + cell.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,328 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.springapplication.studybuddyapp.api.dto.CreateUserRequest;
+import com.springapplication.studybuddyapp.api.dto.ImportReport;
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.model.User;
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bulk user import from CSV ({@code name,email,password} header in any order) or NDJSON
+ * (one {@code {"name","email","password"}} object per line).
+ * <p>
+ * The input is read line by line and processed in chunks, so memory depends on the chunk size, not
+ * the file size. Per chunk: rows are validated like {@code POST /api/users}, emails already taken are
+ * found with one query, passwords are hashed on all hashing workers, and {@code users} plus
+ * {@code user_roles} are written by two set-based statements in one transaction. A failed chunk
+ * does not undo earlier ones. Rows use the same default role as single signups.
+ */
+@Service
+public class UserImportService {
+
+    public enum Format { CSV, NDJSON }
+
+    /**
+     * Reserves ids the way Hibernate's pooled optimizer does: each nextval {@code hi} owns
+     * {@code hi - allocationSize + 1 .. hi}, so these ids never collide with JPA inserts.
+     */
+    private static final String RESERVE_IDS = """
+            SELECT id FROM (
+                SELECT generate_series(hi - ? + 1, hi) AS id
+                FROM (SELECT nextval('users_id_seq') AS hi FROM generate_series(1, ?)) AS blocks) AS ids
+            WHERE id > 0 ORDER BY id LIMIT ?""";
+    private static final String INSERT_USERS = """
+            INSERT INTO users (id, name, email, password_hash, created_at)
+            SELECT i, n, e, h, now()
+            FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[]) AS t(i, n, e, h)
+            ON CONFLICT ((lower(email))) DO NOTHING
+            RETURNING id, email""";
+    private static final String INSERT_LINKS = """
+            INSERT INTO user_roles (user_id, role_id, assigned_at)
+            SELECT id, ?, now() FROM unnest(?::bigint[]) AS t(id)""";
+    private static final String EXISTING = "SELECT lower(email) FROM users WHERE lower(email) = ANY(?::varchar[])";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactions;
+    private final BoundedPasswordEncoder encoder;
+    private final RoleCatalog roles;
+    private final EmailBloomFilter emails;
+    private final Validator validator;
+    private final ObjectReader rowReader;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public UserImportService(JdbcTemplate jdbc, TransactionTemplate transactions, BoundedPasswordEncoder encoder,
+                             RoleCatalog roles, EmailBloomFilter emails, Validator validator, ObjectMapper objectMapper,
+                             @Value("${app.users.import.chunk-size:1000}") int chunkSize,
+                             @Value("${app.users.import.max-errors:1000}") int maxErrors) {
+        this.jdbc = jdbc;
+        this.transactions = transactions;
+        this.encoder = encoder;
+        this.roles = roles;
+        this.emails = emails;
+        this.validator = validator;
+        this.rowReader = objectMapper.readerFor(CreateUserRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public ImportReport importUsers(InputStream in, Format format) {
+        Report report = new Report(maxErrors);
+        Integer roleId = roles.defaultRole().getId();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            RowParser parser = format == Format.CSV ? csvParser(reader.readLine()) : this::parseJson;
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            long lineNo = format == Format.CSV ? 1 : 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.received++;
+                Row row = toRow(lineNo, line, parser, report);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, roleId, report);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, roleId, report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read import stream", e);
+        }
+        return report.toDto();
+    }
+
+    private Row toRow(long lineNo, String line, RowParser parser, Report report) {
+        CreateUserRequest req;
+        try {
+            req = parser.parse(line);
+        } catch (RuntimeException | IOException e) {
+            report.fail(lineNo, null, "Malformed row");
+            return null;
+        }
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            report.fail(lineNo, req.getEmail(), violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return new Row(lineNo, req.getName().trim(), req.getEmail().trim().toLowerCase(Locale.ROOT), req.getPassword());
+    }
+
+    private void writeChunk(List<Row> chunk, Integer roleId, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Row> fresh = dropDuplicates(chunk, report);
+        if (fresh.isEmpty()) {
+            return;
+        }
+        String[] hashes = encoder.encodeAll(fresh.stream().map(Row::password).toList());
+        fresh.forEach(r -> emails.put(r.email()));
+
+        Map<String, Long> inserted = transactions.execute(status -> {
+            Object[] reserved = reserveIds(fresh.size());
+            Map<String, Long> ids = new HashMap<>();
+            jdbc.query(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_USERS);
+                ps.setArray(1, array(con, "bigint", reserved));
+                ps.setArray(2, array(con, "varchar", fresh.stream().map(Row::name).toArray()));
+                ps.setArray(3, array(con, "varchar", fresh.stream().map(Row::email).toArray()));
+                ps.setArray(4, array(con, "varchar", hashes));
+                return ps;
+            }, rs -> {
+                ids.put(rs.getString(2), rs.getLong(1));
+            });
+            if (!ids.isEmpty()) {
+                jdbc.update(con -> {
+                    PreparedStatement ps = con.prepareStatement(INSERT_LINKS);
+                    ps.setInt(1, roleId);
+                    ps.setArray(2, array(con, "bigint", ids.values().toArray()));
+                    return ps;
+                });
+            }
+            return ids;
+        });
+
+        for (Row r : fresh) {
+            if (inserted.containsKey(r.email())) {
+                report.imported++;
+            } else {
+                report.fail(r.line(), r.email(), "Email already in use");
+            }
+        }
+    }
+
+    /**
+     * Removes rows repeating an email earlier in the chunk or already stored (one query per chunk, for
+     * every email: the Bloom filter lags other nodes). Rows that turn up between this query and the
+     * insert are skipped by its {@code ON CONFLICT} on the unique {@code lower(email)} index.
+     */
+    private List<Row> dropDuplicates(List<Row> chunk, Report report) {
+        Set<String> seen = new HashSet<>();
+        List<Row> unique = new ArrayList<>(chunk.size());
+        for (Row r : chunk) {
+            if (seen.add(r.email())) {
+                unique.add(r);
+            } else {
+                report.fail(r.line(), r.email(), "Duplicate email in import");
+            }
+        }
+        Object[] candidates = unique.stream().map(Row::email).toArray();
+        Set<String> taken = new HashSet<>(jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXISTING);
+            ps.setArray(1, array(con, "varchar", candidates));
+            return ps;
+        }, (rs, i) -> rs.getString(1)));
+        List<Row> fresh = new ArrayList<>(unique.size());
+        for (Row r : unique) {
+            if (taken.contains(r.email())) {
+                report.fail(r.line(), r.email(), "Email already in use");
+            } else {
+                fresh.add(r);
+            }
+        }
+        return fresh;
+    }
+
+    private CreateUserRequest parseJson(String line) throws IOException {
+        return rowReader.readValue(line);
+    }
+
+    private static RowParser csvParser(String header) {
+        if (header == null) {
+            throw new BadRequestException("CSV import needs a header line: name,email,password");
+        }
+        List<String> columns = splitCsv(header).stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+        int name = columns.indexOf("name");
+        int email = columns.indexOf("email");
+        int password = columns.indexOf("password");
+        if (name < 0 || email < 0 || password < 0) {
+            throw new BadRequestException("CSV header must contain name, email and password");
+        }
+        return line -> {
+            List<String> cells = splitCsv(line);
+            CreateUserRequest req = new CreateUserRequest();
+            req.setName(cell(cells, name));
+            req.setEmail(cell(cells, email));
+            req.setPassword(cell(cells, password));
+            return req;
+        };
+    }
+
+    private static String cell(List<String> cells, int index) {
+        return index < cells.size() ? cells.get(index) : null;
+    }
+
+    /** One CSV record on one line; double quotes may wrap a field and {@code ""} escapes a quote. */
+    static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote");
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private Object[] reserveIds(int count) {
+        int size = User.ID_ALLOCATION_SIZE;
+        // one spare block: the very first block of a fresh sequence only holds id 1
+        int blocks = (count + size - 1) / size + 1;
+        List<Long> ids = jdbc.queryForList(RESERVE_IDS, Long.class, size, blocks, count);
+        if (ids.size() < count) {
+            throw new IllegalStateException("Reserved " + ids.size() + " user ids, needed " + count);
+        }
+        return ids.toArray();
+    }
+
+    private static Array array(Connection con, String type, Object[] values) throws SQLException {
+        return con.createArrayOf(type, values);
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        CreateUserRequest parse(String line) throws IOException;
+    }
+
+    private record Row(long line, String name, String email, String password) {}
+
+    /** Running totals; keeps only the first {@code maxErrors} row errors. */
+    private static final class Report {
+        private final int maxErrors;
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long failed;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(long line, String email, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportReport.RowError(line, email, message));
+            }
+        }
+
+        ImportReport toDto() {
+            return new ImportReport(received, imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+    }
+}
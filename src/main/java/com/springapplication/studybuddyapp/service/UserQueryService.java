@@ -0,0 +1,112 @@
+package com.springapplication.studybuddyapp.service;
+
+import com.springapplication.studybuddyapp.api.dto.UserPageResponse;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.exception.NotFoundException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.UserReadRepository;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Keyset;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Order;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read side of the Users API: single users and keyset pages, built by {@link UserReadRepository}
+ * in one statement each without loading entities.
+ * <p>
+ * Pages are keyset-based: the cursor holds the order and the last (created_at, id) seen, so every
+ * page is one bounded query however deep the client scrolls. Cursors are opaque to clients
+ * and only valid with the order they were issued for.
+ * <p>
+ * Every read runs in a read-only transaction, so it goes to the replica when one is configured.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserQueryService {
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64D = Base64.getUrlDecoder();
+
+    private final UserReadRepository reads;
+    private final RoleCatalog roles;
+    private final int defaultSize;
+    private final int maxSize;
+
+    public UserQueryService(UserReadRepository reads, RoleCatalog roles,
+                            @Value("${app.users.page.default-size:50}") int defaultSize,
+                            @Value("${app.users.page.max-size:200}") int maxSize) {
+        this.reads = reads;
+        this.roles = roles;
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /** User with roles by id, or 404. */
+    public UserResponse get(long id) {
+        return reads.findById(id).orElseThrow(() -> new NotFoundException("User not found: " + id));
+    }
+
+    /**
+     * @param order       keyset order (id or creation time, ascending)
+     * @param role        only users holding this role name, or null
+     * @param createdFrom inclusive lower bound on creation time, or null
+     * @param createdTo   exclusive upper bound on creation time, or null
+     * @param cursor      {@code nextCursor} from the previous page, or null for the first page
+     * @param size        page size, or null for the default; capped at the configured maximum
+     * @throws BadRequestException if the cursor is malformed or was issued for another order
+     */
+    public UserPageResponse list(Order order, String role, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                 String cursor, Integer size) {
+        int limit = size == null ? defaultSize : Math.max(1, Math.min(size, maxSize));
+        Integer roleId = null;
+        if (role != null && !role.isBlank()) {
+            Optional<Role> found = roles.find(role.trim());
+            if (found.isEmpty()) {
+                return new UserPageResponse(List.of(), null);
+            }
+            roleId = found.get().getId();
+        }
+        Keyset after = cursor == null || cursor.isBlank() ? null : decode(order, cursor);
+
+        // one extra row tells us whether there is a next page without a count query
+        List<UserResponse> rows = reads.findPage(order, new Filter(roleId, createdFrom, createdTo), after, limit + 1);
+        if (rows.size() <= limit) {
+            return new UserPageResponse(rows, null);
+        }
+        List<UserResponse> page = rows.subList(0, limit);
+        return new UserPageResponse(List.copyOf(page), encode(order, page.get(limit - 1)));
+    }
+
+    static String encode(Order order, UserResponse last) {
+        String raw = order == Order.ID
+                ? "i:" + last.getId()
+                : "c:" + last.getCreatedAt() + ":" + last.getId();
+        return B64.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Keyset decode(Order order, String cursor) {
+        try {
+            String raw = new String(B64D.decode(cursor), StandardCharsets.UTF_8);
+            int lastColon = raw.lastIndexOf(':');
+            if (order == Order.ID && raw.startsWith("i:")) {
+                return new Keyset(null, Long.parseLong(raw.substring(2)));
+            }
+            if (order == Order.CREATED_AT && raw.startsWith("c:") && lastColon > 2) {
+                return new Keyset(LocalDateTime.parse(raw.substring(2, lastColon)),
+                        Long.parseLong(raw.substring(lastColon + 1)));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // fall through
+        }
+        throw new BadRequestException("Invalid cursor");
+    }
+}
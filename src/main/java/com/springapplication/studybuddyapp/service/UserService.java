@@ -6,59 +6,85 @@ import com.springapplication.studybuddyapp.exception.NotFoundException;
 import com.springapplication.studybuddyapp.model.Role;
 import com.springapplication.studybuddyapp.model.User;
 import com.springapplication.studybuddyapp.model.UserRole;
-import com.springapplication.studybuddyapp.repository.RoleRepository;
 import com.springapplication.studybuddyapp.repository.UserRepository;
 import com.springapplication.studybuddyapp.repository.UserRoleRepository;
-import jakarta.transaction.Transactional;
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
+import io.micrometer.core.annotation.Timed;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * UserService handles user lifecycle: create, read, update, delete,
  * change password, and role management.
+ * <p>
+ * Methods that hash passwords do so before opening their write transaction,
+ * so no pooled connection is held while BCrypt runs. Lookups run read-only: Hibernate skips
+ * dirty checking and flushing (flush mode MANUAL) and, with a replica configured, they are
+ * served from it. Every public method is timed as {@code user.service}, tagged with its name.
  */
 @Service
 @Transactional
+@Timed(value = "user.service", histogram = true)
 public class UserService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleCatalog roleCatalog;
     private final UserRoleRepository userRoleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate transactions;
+    private final EmailBloomFilter emails;
+    private final PasswordPolicy passwordPolicy;
 
     public UserService(UserRepository userRepository,
-                       RoleRepository roleRepository,
+                       RoleCatalog roleCatalog,
                        UserRoleRepository userRoleRepository,
-                       PasswordEncoder passwordEncoder) {
+                       @Qualifier(BoundedPasswordEncoder.BEAN_NAME) PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher events,
+                       TransactionTemplate transactions,
+                       EmailBloomFilter emails,
+                       PasswordPolicy passwordPolicy) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleCatalog = roleCatalog;
         this.userRoleRepository = userRoleRepository;
         this.passwordEncoder = passwordEncoder;
+        this.events = events;
+        this.transactions = transactions;
+        this.emails = emails;
+        this.passwordPolicy = passwordPolicy;
     }
 
     /** Create a new user with default role USER. */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public User createUser(String name, String email, String rawPassword) {
         if (userRepository.existsByEmailIgnoreCase(email)) {
             throw new ConflictException("Email already in use: " + email);
         }
-        if (rawPassword.length() < 8) {
-            throw new BadRequestException("Password must be at least 8 characters");
-        }
-        User u = new User();
-        u.setName(name);
-        u.setEmail(email);
-        u.setPasswordHash(passwordEncoder.encode(rawPassword));
-        u = userRepository.save(u);
-
-        Role userRole = roleRepository.findByName("ROLE_USER")
-                // fallback in case older data has USER without prefix
-                .orElseGet(() -> roleRepository.findByName("USER")
-                        .orElseThrow(() -> new NotFoundException("Default role ROLE_USER not found")));
-        userRoleRepository.save(new UserRole(u, userRole));
-
-        return u;
+        passwordPolicy.enforce(rawPassword);
+        String hash = passwordEncoder.encode(rawPassword);
+        emails.put(email);
+
+        return transactions.execute(status -> {
+            User u = new User();
+            u.setName(name);
+            u.setEmail(email);
+            u.setPasswordHash(hash);
+            u = userRepository.save(u);
+
+            // ROLE_USER, falling back to USER for older data
+            Role userRole = roleCatalog.defaultRole();
+            userRoleRepository.save(new UserRole(u, userRole));
+
+            return u;
+        });
     }
 
     /**
@@ -69,35 +95,32 @@ public class UserService {
      *   <li>Trims leading/trailing whitespace from {@code email}</li>
      *   <li>Lowercases {@code email}</li>
      *   <li>Delegates to {@link #createUser(String, String, String)} for all
-     *       validations (password length), uniqueness checks, persistence,
+     *       validations (the {@link PasswordPolicy}), uniqueness checks, persistence,
      *       and default role assignment</li>
      * </ul>
      * Behavior is otherwise identical to {@code createUser}.
      *
      * @param name        display name to store
      * @param email       email to normalize, check for uniqueness and persist
-     * @param rawPassword raw password (must be at least 8 chars; checked in {@code createUser})
+     * @param rawPassword raw password (must satisfy the {@link PasswordPolicy}; checked in {@code createUser})
      * @return the persisted {@link User}
      * @throws ConflictException   if email already exists (case-insensitive)
-     * @throws BadRequestException if password is too short
+     * @throws BadRequestException if password breaks the policy
      * @throws NotFoundException   if default role cannot be found
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public User register(String name, String email, String rawPassword) {
         String normalizedEmail = (email == null) ? null : email.trim().toLowerCase();
         return createUser(name, normalizedEmail, rawPassword);
     }
 
     /** Get by id or 404. */
+    @Transactional(readOnly = true)
     public User getUser(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("User not found: " + id));
     }
 
-    /** List all users (lightweight). */
-    public java.util.List<User> listUsers() {
-        return userRepository.findAll();
-    }
-
     /** Update name and/or email. */
     public User updateProfile(Long id, String name, String email) {
         User u = getUser(id);
@@ -106,32 +129,42 @@ public class UserService {
                 && userRepository.existsByEmailIgnoreCase(email)) {
             throw new ConflictException("Email already in use: " + email);
         }
+        emails.put(email);
+        String previousEmail = u.getEmail();
         u.setName(name);
         u.setEmail(email);
-        return userRepository.save(u);
+        u = userRepository.save(u);
+        events.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.PROFILE_UPDATED, previousEmail, email));
+        return u;
     }
 
     /** Change password with current password verification. */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void changePassword(Long id, String currentPassword, String newPassword) {
-        if (newPassword == null || newPassword.length() < 8) {
-            throw new BadRequestException("New password must be at least 8 characters");
-        }
+        passwordPolicy.enforce(newPassword);
         User u = getUser(id);
         if (!passwordEncoder.matches(currentPassword, u.getPasswordHash())) {
             throw new BadRequestException("Current password is incorrect");
         }
-        u.setPasswordHash(passwordEncoder.encode(newPassword));
-        userRepository.save(u);
+        String hash = passwordEncoder.encode(newPassword);
+
+        transactions.executeWithoutResult(status -> {
+            User current = getUser(id);
+            current.setPasswordHash(hash);
+            userRepository.save(current);
+            events.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.PASSWORD_CHANGED, current.getEmail()));
+        });
     }
 
     /** Add role to user if absent (e.g., ADMIN). */
     public void addRole(Long id, String roleName) {
         User u = getUser(id);
-        Role r = roleRepository.findByName(roleName)
+        Role r = roleCatalog.find(roleName)
                 .orElseThrow(() -> new NotFoundException("Role not found: " + roleName));
 
         if (!userRoleRepository.existsByUser_IdAndRole_Name(u.getId(), r.getName())) {
             userRoleRepository.save(new UserRole(u, r));
+            events.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.ROLES_CHANGED, u.getEmail()));
         }
     }
 
@@ -139,19 +172,24 @@ public class UserService {
     public void removeRole(Long id, String roleName) {
         User u = getUser(id);
         java.util.List<com.springapplication.studybuddyapp.model.UserRole> links =
-                userRoleRepository.findByUser_Id(u.getId());
-        links.stream()
-                .filter(ur -> ur.getRole().getName().equals(roleName))
-                .forEach(userRoleRepository::delete);
+                userRoleRepository.findByUser_Id(u.getId()).stream()
+                        .filter(ur -> ur.getRole().getName().equals(roleName))
+                        .toList();
+        if (!links.isEmpty()) {
+            userRoleRepository.deleteAll(links);
+            events.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.ROLES_CHANGED, u.getEmail()));
+        }
     }
 
     /** Delete user and cascade remove links. */
     public void deleteUser(Long id) {
         User u = getUser(id);
         userRepository.delete(u);
+        events.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.DELETED, u.getEmail()));
     }
 
     /** Utility: return role names for a user. */
+    @Transactional(readOnly = true)
     public Set<String> roleNames(User u) {
         return u.getUserRoles().stream()
                 .map(ur -> ur.getRole().getName())
@@ -166,6 +204,7 @@ public class UserService {
      * @throws BadRequestException if name is null/blank
      * @throws NotFoundException if no user with that name exists
      */
+    @Transactional(readOnly = true)
     public User findByName(String name) {
         if (name == null || name.isBlank()) {
             throw new BadRequestException("Name must be provided");
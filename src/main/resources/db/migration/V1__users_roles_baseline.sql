@@ -0,0 +1,24 @@
+-- Users, roles and their links, as mapped by the User, Role and UserRole entities.
+-- IF NOT EXISTS lets this run against databases created earlier by Hibernate's ddl-auto=update.
+
+CREATE TABLE IF NOT EXISTS roles (
+    id   INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(100) NOT NULL,
+    email         VARCHAR(150) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    role_id     INTEGER      NOT NULL REFERENCES roles (id),
+    user_id     BIGINT       NOT NULL REFERENCES users (id),
+    assigned_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (role_id, user_id)
+);
@@ -0,0 +1,20 @@
+-- Indexes behind the repository queries. CONCURRENTLY keeps users writable while they build,
+-- so Flyway runs this script outside a transaction. An interrupted concurrent build leaves an
+-- INVALID index behind, hence drop-then-create: re-running after a failure rebuilds it.
+
+-- findByEmailIgnoreCase / existsByEmailIgnoreCase / login lookups: lower(email) = lower(?)
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_email_lower;
+CREATE INDEX CONCURRENTLY idx_users_email_lower ON users (lower(email));
+
+-- findByName
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_name;
+CREATE INDEX CONCURRENTLY idx_users_name ON users (name);
+
+-- GET /api/users keyset pages ordered by (created_at, id) and created_at range filters
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_created_at_id;
+CREATE INDEX CONCURRENTLY idx_users_created_at_id ON users (created_at, id);
+
+-- Roles of one user (findByUser_Id, role aggregation in the read model). Lookups by role_id are
+-- already served by the (role_id, user_id) primary key.
+DROP INDEX CONCURRENTLY IF EXISTS idx_user_roles_user_id;
+CREATE INDEX CONCURRENTLY idx_user_roles_user_id ON user_roles (user_id);
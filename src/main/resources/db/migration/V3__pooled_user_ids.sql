@@ -0,0 +1,3 @@
+-- User ids come from users_id_seq in blocks of 50 (Hibernate pooled optimizer, User.ID_ALLOCATION_SIZE).
+-- The column stays an identity so ad-hoc inserts still work; each of those uses up one block.
+ALTER TABLE users ALTER COLUMN id SET INCREMENT BY 50;
@@ -0,0 +1,28 @@
+-- roles_id_seq and users_id_seq were the identity columns' internal sequences. PostgreSQL hides those
+-- from information_schema.sequences, so Hibernate's schema validation reported them missing although
+-- the entities use them by name. Turn each into an ordinary sequence owned by its column, keeping its
+-- position and increment, with the column defaulting to nextval so ad-hoc inserts still work.
+
+DO $$
+DECLARE
+    t record;
+    pos bigint;
+    called boolean;
+    step bigint;
+BEGIN
+    FOR t IN SELECT * FROM (VALUES ('roles', 'roles_id_seq', 'integer'), ('users', 'users_id_seq', 'bigint')) AS v(tbl, seq, typ)
+    LOOP
+        IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                       WHERE table_schema = current_schema() AND table_name = t.tbl
+                         AND column_name = 'id' AND is_identity = 'YES') THEN
+            CONTINUE;
+        END IF;
+        EXECUTE format('SELECT last_value, is_called FROM %I', t.seq) INTO pos, called;
+        SELECT seqincrement INTO step FROM pg_sequence WHERE seqrelid = t.seq::regclass;
+
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY', t.tbl);
+        EXECUTE format('CREATE SEQUENCE %I AS %s INCREMENT BY %s OWNED BY %I.id', t.seq, t.typ, step, t.tbl);
+        PERFORM setval(t.seq, pos, called);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t.tbl, t.seq);
+    END LOOP;
+END $$;
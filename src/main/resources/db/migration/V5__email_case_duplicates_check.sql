@@ -0,0 +1,16 @@
+-- V6 makes emails unique regardless of case. Stop here, before any index is built, if rows already
+-- differ only in case: which account to keep is a decision for a person, not for a migration. This
+-- script runs in a transaction, so a failure leaves no trace in the history; merge or rename the
+-- listed accounts and start again.
+
+DO $$
+DECLARE
+    dupes text;
+BEGIN
+    SELECT string_agg(email, ', ' ORDER BY email) INTO dupes
+    FROM (SELECT lower(email) AS email FROM users GROUP BY lower(email) HAVING count(*) > 1 LIMIT 50) d;
+    IF dupes IS NOT NULL THEN
+        RAISE EXCEPTION 'users has emails that differ only in case: %', dupes
+            USING HINT = 'Merge or rename those accounts (SELECT id, email FROM users WHERE lower(email) IN (...)), then restart.';
+    END IF;
+END $$;
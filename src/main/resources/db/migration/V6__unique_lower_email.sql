@@ -0,0 +1,11 @@
+-- Emails are unique regardless of case. uk_users_email only compares them exactly, so "Alice@x" could
+-- be inserted next to "alice@x" and every case-insensitive lookup would then find two rows. This
+-- unique index replaces the plain lower(email) index from V2 (it serves the same lookups) and is the
+-- conflict target of the bulk import's ON CONFLICT (lower(email)).
+-- Like V2 it builds CONCURRENTLY outside a transaction, and drops first so a re-run after an
+-- interrupted build (or a duplicate inserted since V5 checked) rebuilds it.
+
+DROP INDEX CONCURRENTLY IF EXISTS uk_users_email_lower;
+CREATE UNIQUE INDEX CONCURRENTLY uk_users_email_lower ON users (lower(email));
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_email_lower;
@@ -1,24 +1,31 @@
 package com.springapplication.studybuddyapp;
 
 
+import com.springapplication.studybuddyapp.api.validation.FieldMatchVerifier;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+// The @FieldMatch verifier is off by default; run it here so a misspelled property fails the build
+@SpringBootTest(properties = "app.validation.verify-field-match=true")
 @ActiveProfiles("ci")
 class StudyBuddyAppApplicationTests {
 
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private ApplicationContext context;
+
     @Test
     void contextLoads() {
+        assertThat(context.getBeansOfType(FieldMatchVerifier.class)).hasSize(1);
     }
 
     @Test
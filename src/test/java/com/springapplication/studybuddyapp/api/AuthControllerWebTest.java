@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.springapplication.studybuddyapp.controller.AuthController;
 import com.springapplication.studybuddyapp.service.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,7 @@ import org.springframework.test.web.servlet.MvcResult;
  */
 @WebMvcTest(AuthController.class)
 @AutoConfigureMockMvc(addFilters = true)
-@Import(AuthControllerWebTest.TestSecurityConfig.class)
+@Import({AuthControllerWebTest.TestSecurityConfig.class, SimpleMeterRegistry.class})
 class AuthControllerWebTest {
 
     @Autowired MockMvc mvc;
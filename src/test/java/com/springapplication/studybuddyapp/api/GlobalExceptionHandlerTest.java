@@ -0,0 +1,27 @@
+package com.springapplication.studybuddyapp.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void integrityViolation_onlyUniqueViolationsAreConflicts() {
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("dup",
+                new SQLException("duplicate key value violates unique constraint \"uk_users_email\"", "23505"));
+        DataIntegrityViolationException foreignKey = new DataIntegrityViolationException("fk",
+                new SQLException("violates foreign key constraint \"fk_user_roles_role\"", "23503"));
+
+        assertThat(handler.handleIntegrity(duplicate).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(handler.handleIntegrity(foreignKey).getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        // reactive signups: R2DBC's unique violation as translated by Spring
+        assertThat(handler.handleIntegrity(new DuplicateKeyException("dup")).getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+}
@@ -5,6 +5,7 @@ import com.springapplication.studybuddyapp.controller.AuthController;
 import com.springapplication.studybuddyapp.exception.BadRequestException;
 import com.springapplication.studybuddyapp.exception.ConflictException;
 import com.springapplication.studybuddyapp.service.AuthService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,7 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(controllers = AuthController.class)
 @AutoConfigureMockMvc(addFilters = false) // disable security filters for slice test
-@Import(AuthControllerTest.TestAdvice.class)
+@Import({AuthControllerTest.TestAdvice.class, SimpleMeterRegistry.class})
 class AuthControllerTest {
 
     @Autowired MockMvc mvc;
@@ -62,7 +62,7 @@ class SignupRequestValidationTest {
         SignupRequest dto = new SignupRequest();
         dto.setName("");                 // NotBlank
         dto.setEmail("not-an-email");    // Email
-        dto.setPassword("short");        // Size(min=8)
+        dto.setPassword("short");        // StrongPassword
         dto.setPasswordConfirm("short"); // Size(min=8) + matches, so no global mismatch error
 
         Set<ConstraintViolation<SignupRequest>> violations = validator.validate(dto);
@@ -74,5 +74,22 @@ class SignupRequestValidationTest {
 
         assertThat(paths).contains("name", "email", "password", "passwordConfirm");
     }
-}
 
+    @Test
+    void weak_password_reports_each_failed_rule() {
+        SignupRequest dto = new SignupRequest();
+        dto.setName("Ada Lovelace");
+        dto.setEmail("ada@example.com");
+        dto.setPassword("lowercase1");
+        dto.setPasswordConfirm("lowercase1");
+
+        Set<String> messages = validator.validate(dto).stream()
+                .filter(v -> v.getPropertyPath().toString().equals("password"))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toSet());
+
+        assertThat(messages).containsExactlyInAnyOrder(
+                "Password must include an uppercase letter",
+                "Password must include a special character");
+    }
+}
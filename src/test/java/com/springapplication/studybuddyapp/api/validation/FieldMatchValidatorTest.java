@@ -0,0 +1,82 @@
+package com.springapplication.studybuddyapp.api.validation;
+
+import jakarta.validation.ConstraintDeclarationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FieldMatchValidatorTest {
+
+    @FieldMatch(first = "password", second = "passwordConfirm", message = "Passwords do not match")
+    public static class PasswordPair {
+        private final String password;
+        private final String passwordConfirm;
+
+        PasswordPair(String password, String passwordConfirm) {
+            this.password = password;
+            this.passwordConfirm = passwordConfirm;
+        }
+
+        public String getPassword() { return password; }
+        public String getPasswordConfirm() { return passwordConfirm; }
+    }
+
+    @FieldMatch(first = "code", second = "confirmCode")
+    record CodePair(int code, int confirmCode) {}
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setup() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void mismatch_isReportedOnSecondProperty() {
+        assertThat(validator.validate(new PasswordPair("Secret1!", "Secret1!"))).isEmpty();
+
+        Set<ConstraintViolation<PasswordPair>> violations = validator.validate(new PasswordPair("Secret1!", "Other1!"));
+        assertThat(violations).singleElement().satisfies(v -> {
+            assertThat(v.getPropertyPath().toString()).isEqualTo("passwordConfirm");
+            assertThat(v.getMessage()).isEqualTo("Passwords do not match");
+        });
+    }
+
+    @Test
+    void recordAccessors_andPrimitives_areSupported() {
+        assertThat(validator.validate(new CodePair(1234, 1234))).isEmpty();
+        assertThat(validator.validate(new CodePair(1234, 4321))).hasSize(1);
+    }
+
+    @Test
+    void unknownProperty_isADeclarationError_notAnInvalidValue() {
+        // No annotated fixture: FieldMatchVerifier would (rightly) refuse to start any context that scans it
+        FieldMatch misspelled = mock(FieldMatch.class);
+        when(misspelled.first()).thenReturn("password");
+        when(misspelled.second()).thenReturn("passwordConfrim");
+        FieldMatchValidator fieldMatch = new FieldMatchValidator();
+        fieldMatch.initialize(misspelled);
+
+        assertThatThrownBy(() -> fieldMatch.isValid(new PasswordPair("a", "b"), null))
+                .isInstanceOf(ConstraintDeclarationException.class)
+                .hasMessageContaining("passwordConfrim");
+    }
+}
@@ -1,14 +1,35 @@
 package com.springapplication.studybuddyapp.config;
 
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.HttpBasicAuthenticationDetails;
+import com.springapplication.studybuddyapp.security.PasswordCheckUnavailableException;
+import com.springapplication.studybuddyapp.security.TimedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.VerifiedCredentialCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationEventPublisher;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
 
 @SpringBootTest
@@ -29,11 +50,13 @@ class AuthProvidersConfigTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testDaoAuthenticationProviderUsesCorrectUserDetailsServiceAndPasswordEncoder() {
         // Arrange
         UserDetailsService userDetailsService = Mockito.mock(UserDetailsService.class);
         PasswordEncoder passwordEncoder = Mockito.mock(PasswordEncoder.class);
-        AuthProvidersConfig config = new AuthProvidersConfig(userDetailsService, passwordEncoder);
+        AuthProvidersConfig config = new AuthProvidersConfig(userDetailsService, passwordEncoder, new SimpleMeterRegistry(),
+                Mockito.mock(ObjectProvider.class), new MockEnvironment(), 16);
 
         // Act
         DaoAuthenticationProvider provider = config.daoAuthenticationProvider();
@@ -44,4 +67,104 @@ class AuthProvidersConfigTest {
         //assertNotNull(provider.getPasswordEncoder());
         //assertNotNull(provider.getUserDetailsService());
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void loginPasswordChecks_useHashingPool_onlyWhenOffloaded() {
+        UserDetailsService userDetailsService = Mockito.mock(UserDetailsService.class);
+        PasswordEncoder passwordEncoder = Mockito.mock(PasswordEncoder.class);
+        ObjectProvider<BoundedPasswordEncoder> provider = Mockito.mock(ObjectProvider.class);
+        try (BoundedPasswordEncoder hashing = new BoundedPasswordEncoder(passwordEncoder, 1, 1,
+                Duration.ofSeconds(1), new SimpleMeterRegistry())) {
+            Mockito.when(provider.getIfAvailable()).thenReturn(hashing);
+
+            assertSame(hashing, new AuthProvidersConfig(userDetailsService, passwordEncoder, new SimpleMeterRegistry(),
+                    provider, offloadLogins("true"), 16).loginPasswordEncoder());
+            assertInstanceOf(TimedPasswordEncoder.class, new AuthProvidersConfig(userDetailsService, passwordEncoder,
+                    new SimpleMeterRegistry(), provider, offloadLogins("false"), 16).loginPasswordEncoder());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void offloadLogins_defaultsToVirtualThreadsBeingActive_notJustRequested() {
+        ObjectProvider<BoundedPasswordEncoder> provider = Mockito.mock(ObjectProvider.class);
+        try (BoundedPasswordEncoder hashing = new BoundedPasswordEncoder(Mockito.mock(PasswordEncoder.class), 1, 1,
+                Duration.ofSeconds(1), new SimpleMeterRegistry())) {
+            Mockito.when(provider.getIfAvailable()).thenReturn(hashing);
+            MockEnvironment virtual = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+
+            PasswordEncoder encoder = new AuthProvidersConfig(Mockito.mock(UserDetailsService.class),
+                    Mockito.mock(PasswordEncoder.class), new SimpleMeterRegistry(), provider, virtual, 16)
+                    .loginPasswordEncoder();
+
+            if (Runtime.version().feature() >= 21) {
+                assertSame(hashing, encoder);
+            } else {
+                assertInstanceOf(TimedPasswordEncoder.class, encoder);
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fullHashingPool_failsLoginWithRetryableAuthenticationException() throws Exception {
+        PasswordEncoder slow = Mockito.mock(PasswordEncoder.class);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(slow.matches(Mockito.any(), Mockito.any())).thenAnswer(inv -> release.await(5, TimeUnit.SECONDS));
+        UserDetailsService users = email -> User.withUsername(email).password("{hash}").roles("USER").build();
+        ObjectProvider<BoundedPasswordEncoder> provider = Mockito.mock(ObjectProvider.class);
+        try (BoundedPasswordEncoder hashing = new BoundedPasswordEncoder(slow, 1, 1,
+                Duration.ofSeconds(3), new SimpleMeterRegistry())) {
+            Mockito.when(provider.getIfAvailable()).thenReturn(hashing);
+            AuthenticationEventPublisher events = Mockito.mock(AuthenticationEventPublisher.class);
+            AuthProvidersConfig config = new AuthProvidersConfig(users, slow, new SimpleMeterRegistry(),
+                    provider, offloadLogins("true"), 1);
+            AuthenticationManager manager = config.authenticationManager(config.daoAuthenticationProvider(),
+                    Mockito.mock(ObjectProvider.class), events);
+
+            // one Basic check holds the Basic lane's only slot
+            CompletableFuture.runAsync(() -> manager.authenticate(basicLogin()));
+            Thread.sleep(200);
+
+            PasswordCheckUnavailableException shed = assertThrows(PasswordCheckUnavailableException.class,
+                    () -> manager.authenticate(basicLogin()));
+            assertEquals(3, shed.getRetryAfterSeconds());
+            verify(events).publishAuthenticationFailure(Mockito.eq(shed), Mockito.any());
+            release.countDown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void credentialCache_onlySkipsPasswordChecksForHttpBasic() {
+        PasswordEncoder encoder = Mockito.mock(PasswordEncoder.class);
+        Mockito.when(encoder.matches("secret", "{hash}")).thenReturn(true);
+        UserDetailsService users = email -> User.withUsername(email).password("{hash}").roles("USER").build();
+        ObjectProvider<VerifiedCredentialCache> cacheProvider = Mockito.mock(ObjectProvider.class);
+        Mockito.when(cacheProvider.getIfAvailable()).thenReturn(new VerifiedCredentialCache(100, Duration.ofMinutes(1)));
+        AuthProvidersConfig config = new AuthProvidersConfig(users, encoder, new SimpleMeterRegistry(),
+                Mockito.mock(ObjectProvider.class), offloadLogins("false"), 16);
+        AuthenticationManager manager = config.authenticationManager(config.daoAuthenticationProvider(),
+                cacheProvider, Mockito.mock(AuthenticationEventPublisher.class));
+
+        for (int i = 0; i < 3; i++) {
+            manager.authenticate(basicLogin());
+            manager.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("a@example.com", "secret"));
+        }
+
+        // 1 Basic check (then cached) + 3 interactive ones
+        verify(encoder, Mockito.times(4)).matches("secret", "{hash}");
+    }
+
+    private static MockEnvironment offloadLogins(String value) {
+        return new MockEnvironment().withProperty("app.security.hashing.offload-logins", value);
+    }
+
+    private static UsernamePasswordAuthenticationToken basicLogin() {
+        UsernamePasswordAuthenticationToken token =
+                UsernamePasswordAuthenticationToken.unauthenticated("a@example.com", "secret");
+        token.setDetails(new HttpBasicAuthenticationDetails(new MockHttpServletRequest()));
+        return token;
+    }
+}
@@ -0,0 +1,65 @@
+package com.springapplication.studybuddyapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.springapplication.studybuddyapp.config.ReadWriteRoutingDataSource.Route;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setup() {
+        routing = new ReadWriteRoutingDataSource(mock(DataSource.class), mock(DataSource.class), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_goesToReplica_everythingElseToPrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Route.REPLICA);
+    }
+
+    @Test
+    void committedWrite_pinsThatUsersReadsToPrimary() {
+        signIn("alice@example.com");
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey())
+                .as("not pinned before commit").isEqualTo(Route.REPLICA);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+
+        signIn("bob@example.com");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Route.REPLICA);
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                email, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}
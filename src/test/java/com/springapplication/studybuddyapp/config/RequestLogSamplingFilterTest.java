@@ -0,0 +1,42 @@
+package com.springapplication.studybuddyapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestLogSamplingFilterTest {
+
+    @Test
+    void forceTokenHeader_tracesRequest_andMdcIsClearedAfterwards() throws Exception {
+        RequestLogSamplingFilter filter = new RequestLogSamplingFilter(0, "X-Debug-Trace", "s3cret");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("X-Debug-Trace", "s3cret");
+        Map<String, String> seen = new HashMap<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.putAll(MDC.getCopyOfContextMap()));
+
+        assertThat(seen).containsEntry(RequestLogSamplingFilter.TRACE, "on")
+                .containsKey(RequestLogSamplingFilter.REQUEST_ID);
+        assertThat(MDC.get(RequestLogSamplingFilter.TRACE)).isNull();
+        assertThat(MDC.get(RequestLogSamplingFilter.REQUEST_ID)).isNull();
+    }
+
+    @Test
+    void headerIsIgnored_withWrongOrUnconfiguredToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("X-Debug-Trace", "guess");
+
+        assertThat(new RequestLogSamplingFilter(0, "X-Debug-Trace", "s3cret").sampled(request)).isFalse();
+        assertThat(new RequestLogSamplingFilter(0, "X-Debug-Trace", "").sampled(request)).isFalse();
+    }
+
+    @Test
+    void sampleRateOfOne_tracesEveryRequest() {
+        assertThat(new RequestLogSamplingFilter(1, "X-Debug-Trace", "").sampled(new MockHttpServletRequest())).isTrue();
+    }
+}
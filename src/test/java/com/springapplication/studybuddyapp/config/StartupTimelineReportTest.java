@@ -0,0 +1,46 @@
+package com.springapplication.studybuddyapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+
+class StartupTimelineReportTest {
+
+    private final BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+
+    @Test
+    void slowestBeans_onlyBeanSteps_slowestFirst_limited() {
+        List<TimelineEvent> events = List.of(
+                event(startup.start("spring.context.refresh"), 5_000),
+                event(bean("fast"), 1),
+                event(bean("slow"), 200),
+                event(bean("medium"), 80));
+        StartupTimeline timeline = mock(StartupTimeline.class);
+        when(timeline.getEvents()).thenReturn(events);
+
+        List<String> lines = StartupTimelineReport.slowestBeans(timeline, 2);
+
+        assertThat(lines).containsExactly("\t200 ms  slow", "\t80 ms  medium");
+    }
+
+    private StartupStep bean(String name) {
+        return startup.start(StartupTimelineReport.BEAN_STEP).tag("beanName", name);
+    }
+
+    /** A finished step with a fixed duration, instead of timing a real sleep. */
+    private static TimelineEvent event(StartupStep step, long millis) {
+        step.end();
+        TimelineEvent event = mock(TimelineEvent.class);
+        when(event.getStartupStep()).thenReturn(step);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(millis));
+        return event;
+    }
+}
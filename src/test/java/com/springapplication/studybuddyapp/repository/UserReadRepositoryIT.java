@@ -0,0 +1,139 @@
+package com.springapplication.studybuddyapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.model.User;
+import com.springapplication.studybuddyapp.model.UserRole;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Order;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Statement counts for the UserResponse read path against a real Postgres container: a single
+ * user and a whole page must each be one round trip, however many roles the users hold.
+ */
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserReadRepository.class, UserReadRepositoryIT.StatementCounting.class})
+class UserReadRepositoryIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> DB = new PostgreSQLContainer<>("postgres:15");
+
+    static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+    @Autowired UserReadRepository reads;
+    @Autowired TestEntityManager em;
+
+    private User ada;
+
+    @BeforeEach
+    void seed() {
+        Role user = em.persist(new Role("ROLE_USER"));
+        Role admin = em.persist(new Role("ROLE_ADMIN"));
+        ada = user("Ada", "ada@example.com");
+        em.persist(new UserRole(ada, user));
+        em.persist(new UserRole(ada, admin));
+        for (int i = 0; i < 5; i++) {
+            em.persist(new UserRole(user("User " + i, "u" + i + "@example.com"), user));
+        }
+        em.flush();
+        em.clear();
+        STATEMENTS.set(0);
+    }
+
+    @Test
+    void findById_isOneStatement_withAggregatedRoles() {
+        UserResponse found = reads.findById(ada.getId()).orElseThrow();
+
+        assertThat(STATEMENTS.get()).isEqualTo(1);
+        assertThat(found.getEmail()).isEqualTo("ada@example.com");
+        assertThat(found.getRoles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(found.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void page_isOneStatement_regardlessOfRowCount() {
+        List<UserResponse> page = reads.findPage(Order.CREATED_AT, new Filter(null, null, null), null, 10);
+
+        assertThat(STATEMENTS.get()).isEqualTo(1);
+        assertThat(page).hasSize(6);
+        assertThat(page).allSatisfy(u -> assertThat(u.getRoles()).contains("ROLE_USER"));
+    }
+
+    @Test
+    void missingUser_isEmpty() {
+        assertThat(reads.findById(-1)).isEmpty();
+        assertThat(STATEMENTS.get()).isEqualTo(1);
+    }
+
+    private User user(String name, String email) {
+        User u = new User();
+        u.setName(name);
+        u.setEmail(email);
+        u.setPasswordHash("$2a$10$abcdefghijklmnopqrstuv");
+        return em.persist(u);
+    }
+
+    /** Wraps the DataSource so every statement prepared on any connection is counted. */
+    @TestConfiguration
+    static class StatementCounting {
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String name) {
+                    if (!(bean instanceof DataSource ds)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(ds) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return counting(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection counting(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        String m = method.getName();
+                        if (m.equals("prepareStatement") || m.equals("prepareCall") || m.equals("createStatement")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
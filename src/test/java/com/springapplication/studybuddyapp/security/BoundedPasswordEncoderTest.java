@@ -0,0 +1,91 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.springapplication.studybuddyapp.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+            new BlockingEncoder(), 1, 1, Duration.ofSeconds(2), registry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void delegates_on_worker_thread_and_records_latency() {
+        release.countDown();
+
+        assertThat(encoder.encode("secret")).isEqualTo("ENC(secret)");
+        assertThat(encoder.matches("secret", "ENC(secret)")).isTrue();
+        assertThat(registry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void full_queue_fails_fast_with_retry_after() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("one"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("two"));
+        await(() -> registry.get("password.hash.queue.depth").gauge().value() == 1.0);
+
+        assertThatThrownBy(() -> encoder.encode("three"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2L);
+        assertThat(registry.get("password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("ENC(one)");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("ENC(two)");
+    }
+
+    @Test
+    void encodeAll_keepsOrder_andWaitsInsteadOfFailingWhenQueueIsBusy() {
+        release.countDown();
+
+        String[] hashes = encoder.encodeAll(java.util.List.of("a", "b", "c", "d", "e"));
+
+        assertThat(hashes).containsExactly("ENC(a)", "ENC(b)", "ENC(c)", "ENC(d)", "ENC(e)");
+        assertThat(registry.get("password.hash.rejected").counter().count()).isZero();
+    }
+
+    private static void await(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    /** Stand-in for BCrypt that holds the worker until the test releases it. */
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence raw) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ENC(" + raw + ")";
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            return encoded.equals("ENC(" + raw + ")");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    void calibrate_staysWithinBounds() {
+        assertThat(CalibratedBCryptPasswordEncoder.calibrate(Duration.ofNanos(1), 5, 7).getStrength()).isEqualTo(5);
+        assertThat(CalibratedBCryptPasswordEncoder.calibrate(Duration.ofHours(1), 5, 7).getStrength()).isEqualTo(7);
+    }
+
+    @Test
+    void upgradeEncoding_flagsHashesWithAnyOtherCost() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(6);
+        String weaker = new BCryptPasswordEncoder(4).encode("secret");
+        String stronger = new BCryptPasswordEncoder(7).encode("secret");
+
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(stronger)).isTrue();
+        assertThat(encoder.matches("secret", weaker)).isTrue();
+    }
+
+    @Test
+    void upgradeEncoding_ignoresNonBCryptValues() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(6);
+
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain")).isFalse();
+        assertThat(encoder.upgradeEncoding("$2a$xx$abc")).isFalse();
+    }
+}
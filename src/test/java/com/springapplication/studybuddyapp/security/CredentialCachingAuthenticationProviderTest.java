@@ -0,0 +1,90 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.springapplication.studybuddyapp.service.UserChangedEvent;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+class CredentialCachingAuthenticationProviderTest {
+
+    private AuthenticationProvider delegate;
+    private UserDetailsService uds;
+    private VerifiedCredentialCache cache;
+    private CredentialCachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        UserDetails alice = User.withUsername("alice@example.com").password("{bcrypt}hash")
+                .authorities("ROLE_USER").build();
+        uds = mock(UserDetailsService.class);
+        when(uds.loadUserByUsername("alice@example.com")).thenReturn(alice);
+
+        delegate = mock(AuthenticationProvider.class);
+        when(delegate.authenticate(any())).thenAnswer(inv -> {
+            Authentication a = inv.getArgument(0);
+            if (!"S3cret!pass".equals(a.getCredentials())) throw new BadCredentialsException("Bad credentials");
+            return UsernamePasswordAuthenticationToken.authenticated(alice, null, alice.getAuthorities());
+        });
+
+        cache = new VerifiedCredentialCache(100, Duration.ofMinutes(1));
+        provider = new CredentialCachingAuthenticationProvider(delegate, cache, uds);
+    }
+
+    @Test
+    void repeated_valid_credentials_skip_the_delegate() {
+        provider.authenticate(login("S3cret!pass"));
+        Authentication second = provider.authenticate(login("S3cret!pass"));
+
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void different_password_is_always_checked_by_the_delegate() {
+        provider.authenticate(login("S3cret!pass"));
+
+        assertThatThrownBy(() -> provider.authenticate(login("wrong")))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void password_change_invalidates_the_entry() {
+        provider.authenticate(login("S3cret!pass"));
+
+        cache.onUserChanged(new UserChangedEvent(1L, UserChangedEvent.Type.PASSWORD_CHANGED, "alice@example.com"));
+        provider.authenticate(login("S3cret!pass"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void password_changed_on_another_node_misses_without_any_event() {
+        provider.authenticate(login("S3cret!pass"));
+
+        // this node never saw the change; it only reads the new stored hash
+        when(uds.loadUserByUsername("alice@example.com")).thenReturn(User.withUsername("alice@example.com")
+                .password("{bcrypt}newhash").authorities("ROLE_USER").build());
+        doThrow(new BadCredentialsException("Bad credentials")).when(delegate).authenticate(any());
+
+        assertThatThrownBy(() -> provider.authenticate(login("S3cret!pass")))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    private static Authentication login(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("alice@example.com", password);
+    }
+}
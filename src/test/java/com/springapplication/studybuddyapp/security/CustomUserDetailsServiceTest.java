@@ -8,6 +8,7 @@ import com.springapplication.studybuddyapp.model.Role;
 import com.springapplication.studybuddyapp.model.User;
 import com.springapplication.studybuddyapp.model.UserRole;
 import com.springapplication.studybuddyapp.repository.UserRepository;
+import java.time.Duration;
 import java.util.Optional;
 
 import com.springapplication.studybuddyapp.service.CustomUserDetailsService;
@@ -16,12 +17,15 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 class CustomUserDetailsServiceTest {
     @Mock
     UserRepository users;
+    @Spy
+    UserDetailsCache cache = new UserDetailsCache(100, Duration.ofMinutes(1));
     @InjectMocks
     CustomUserDetailsService uds;
 
@@ -54,7 +58,7 @@ class CustomUserDetailsServiceTest {
     void loadUserByUsername_missing_throws() {
         var repo = mock(UserRepository.class);
         when(repo.findByEmailIgnoreCase("missing@example.com")).thenReturn(Optional.empty());
-        var service = new CustomUserDetailsService(repo);
+        var service = new CustomUserDetailsService(repo, new UserDetailsCache(100, Duration.ofMinutes(1)));
 
         assertThatThrownBy(() -> service.loadUserByUsername("missing@example.com"))
                 .isInstanceOf(UsernameNotFoundException.class);
@@ -67,5 +71,21 @@ class CustomUserDetailsServiceTest {
                 UsernameNotFoundException.class,
                 () -> uds.loadUserByUsername("missing@example.com"));
     }
-}
 
+    @Test
+    void updatePassword_persistsNewHash_andEvictsCachedUser() {
+        String email = "alice@example.com";
+        User u = new User();
+        u.setEmail(email);
+        u.setPasswordHash("$2a$10$old");
+        when(users.findByEmailIgnoreCaseWithRoles(email)).thenReturn(Optional.of(u));
+        UserDetails loaded = uds.loadUserByUsername(email);
+
+        UserDetails upgraded = uds.updatePassword(loaded, "$2a$12$new");
+
+        verify(users).updatePasswordHashByEmail(email, "$2a$12$new");
+        verify(cache).invalidate(email);
+        assertThat(upgraded.getPassword()).isEqualTo("$2a$12$new");
+        assertThat(upgraded.getAuthorities()).isEqualTo(loaded.getAuthorities());
+    }
+}
@@ -0,0 +1,54 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.springapplication.studybuddyapp.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationFailureBadCredentialsEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class LoginMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LoginMetrics metrics = new LoginMetrics(registry);
+    private final Authentication auth = UsernamePasswordAuthenticationToken.unauthenticated("a@example.com", "x");
+
+    @AfterEach
+    void cleanup() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void countsOutcomesPerChannel() {
+        onRequest("/auth/login");
+        metrics.onSuccess(new AuthenticationSuccessEvent(auth));
+        onRequest("/api/users");
+        metrics.onFailure(new AuthenticationFailureBadCredentialsEvent(auth, new BadCredentialsException("bad")));
+
+        assertThat(registry.get("auth.login").tags("result", "success", "channel", "api").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("auth.login").tags("result", "failure", "reason", "bad_credentials", "channel", "basic")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void mapsFailureReasons() {
+        assertThat(LoginMetrics.reason(new LockedException("locked"))).isEqualTo("locked");
+        assertThat(LoginMetrics.reason(new BadCredentialsException("bad"))).isEqualTo("bad_credentials");
+        assertThat(LoginMetrics.reason(new PasswordCheckUnavailableException(
+                new ServiceUnavailableException("busy", 1)))).isEqualTo("unavailable");
+    }
+
+    private static void onRequest(String path) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("POST", path)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class LoginRateLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LoginRateLimiter limiter = new LoginRateLimiter(
+            100, Duration.ofMinutes(1), 2, Duration.ofMinutes(1), 3, Duration.ofMinutes(1), 1_000, registry);
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(limiter, new ObjectMapper());
+
+    @Test
+    void jsonLogin_overEmailLimit_gets429_andBodyIsReplayedWhenAllowed() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(jsonLogin(" Alice@Example.com"), new MockHttpServletResponse(), chain);
+            byte[] replayed = chain.getRequest().getInputStream().readAllBytes();
+            assertThat(new String(replayed, StandardCharsets.UTF_8)).contains("Alice@Example.com");
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(jsonLogin("alice@example.com"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(response.getContentAsString()).contains("TOO_MANY_REQUESTS");
+        assertThat(registry.get("auth.rate_limited").tag("scope", "email").counter().count()).isEqualTo(1);
+        assertThat(limiter.snapshot(5)).extractingByKey("email", as(MAP))
+                .extractingByKey("topRejected").isEqualTo(Map.of("alice@example.com", 1L));
+    }
+
+    @Test
+    void formSignup_isLimitedByEmailParameter_otherPathsPassThrough() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest form = new MockHttpServletRequest("POST", "/signup");
+            form.setParameter("email", "bob@example.com");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(form, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(i < 2 ? 200 : 429);
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletRequest other = new MockHttpServletRequest("POST", "/api/users");
+        other.setParameter("email", "bob@example.com");
+        filter.doFilter(other, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void emailAvailabilityLookups_areLimitedPerIp_whateverTheEmail() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletRequest lookup = new MockHttpServletRequest("GET", "/auth/email-available");
+            lookup.setParameter("email", "probe" + i + "@example.com");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(lookup, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(i < 3 ? 200 : 429);
+        }
+        assertThat(registry.get("auth.rate_limited").tag("scope", "lookup").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void emailRejection_doesNotUseTheIpPermit() {
+        LoginRateLimiter strict = new LoginRateLimiter(3, Duration.ofMinutes(1), 1, Duration.ofMinutes(1),
+                3, Duration.ofMinutes(1), 1_000, registry);
+
+        assertThat(strict.tryAcquire("10.0.0.1", "carol@example.com")).isZero();
+        for (int i = 0; i < 5; i++) {
+            assertThat(strict.tryAcquire("10.0.0.1", "carol@example.com")).isPositive();
+        }
+        // the five refused attempts left the IP's two remaining permits in place
+        assertThat(strict.tryAcquire("10.0.0.1", "dave@example.com")).isZero();
+        assertThat(strict.tryAcquire("10.0.0.1", "erin@example.com")).isZero();
+        assertThat(strict.tryAcquire("10.0.0.1", "frank@example.com")).isPositive();
+    }
+
+    @Test
+    void replayedBody_supportsNonBlockingReads() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(jsonLogin("gina@example.com"), new MockHttpServletResponse(), chain);
+        jakarta.servlet.ServletInputStream in = chain.getRequest().getInputStream();
+        StringBuilder read = new StringBuilder();
+        boolean[] done = new boolean[1];
+
+        in.setReadListener(new jakarta.servlet.ReadListener() {
+            @Override public void onDataAvailable() throws java.io.IOException {
+                while (in.isReady() && !in.isFinished()) read.append((char) in.read());
+            }
+            @Override public void onAllDataRead() { done[0] = true; }
+            @Override public void onError(Throwable t) { throw new AssertionError(t); }
+        });
+
+        assertThat(done[0]).isTrue();
+        assertThat(read.toString()).contains("gina@example.com");
+    }
+
+    private static MockHttpServletRequest jsonLogin(String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setContentType("application/json");
+        request.setContent(("{\"email\":\"" + email + "\",\"password\":\"x\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
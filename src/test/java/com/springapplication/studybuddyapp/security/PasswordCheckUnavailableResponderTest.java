@@ -0,0 +1,40 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springapplication.studybuddyapp.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+
+class PasswordCheckUnavailableResponderTest {
+
+    private final AuthenticationFailureHandler handler = new PasswordCheckUnavailableResponder(new ObjectMapper())
+            .failureHandler(new SimpleUrlAuthenticationFailureHandler("/login?error"));
+
+    @Test
+    void shedLogin_gets503WithRetryAfter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest("POST", "/login"), response,
+                new PasswordCheckUnavailableException(new ServiceUnavailableException("busy", 2)));
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("SERVICE_UNAVAILABLE");
+    }
+
+    @Test
+    void otherFailures_goToTheWrappedHandler() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        handler.onAuthenticationFailure(new MockHttpServletRequest("POST", "/login"), response,
+                new BadCredentialsException("bad"));
+
+        assertThat(response.getRedirectedUrl()).isEqualTo("/login?error");
+    }
+}
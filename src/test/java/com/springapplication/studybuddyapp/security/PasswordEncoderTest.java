@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class PasswordEncoderTest {
@@ -27,11 +29,19 @@ class PasswordEncoderTest {
     @Test
     void passwordEncoder_isBCrypt() {
         SecurityConfig cfg = new SecurityConfig();
-        PasswordEncoder encoder = cfg.passwordEncoder();
+        PasswordEncoder encoder = cfg.passwordEncoder(0, Duration.ofMillis(80), 4, 16);
 
         assertNotNull(encoder, "PasswordEncoder bean should not be null");
         assertTrue(encoder instanceof BCryptPasswordEncoder,
                 "PasswordEncoder must be BCryptPasswordEncoder");
     }
+
+    @Test
+    void passwordEncoder_fixedStrength_skipsCalibration() {
+        PasswordEncoder encoder = new SecurityConfig().passwordEncoder(11, Duration.ofMillis(80), 10, 16);
+
+        assertEquals(11, ((CalibratedBCryptPasswordEncoder) encoder).getStrength());
+        assertTrue(encoder.encode("MyS3cret!").startsWith("$2a$11$"));
+    }
 }
 
@@ -0,0 +1,41 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.security.PasswordPolicy.Rule;
+import org.junit.jupiter.api.Test;
+
+class PasswordPolicyTest {
+
+    private final PasswordPolicy policy = PasswordPolicy.defaults();
+
+    @Test
+    void strongPassword_passes_weakOnesReportEveryFailedRule() {
+        assertThat(policy.check("Str0ng!Passw0rd")).isZero();
+        assertThat(policy.check("Sh0rt!")).isEqualTo(Rule.TOO_SHORT.bit());
+        assertThat(policy.check("a".repeat(73)))
+                .isEqualTo(Rule.TOO_LONG.bit() | Rule.NO_UPPER.bit() | Rule.NO_DIGIT.bit() | Rule.NO_SPECIAL.bit());
+        assertThat(policy.check("Pass word1")).isEqualTo(Rule.NO_SPECIAL.bit());
+        assertThat(policy.check(null)).isEqualTo((1 << Rule.values().length) - 1 & ~Rule.TOO_LONG.bit());
+    }
+
+    @Test
+    void enforce_listsFailuresInOneMessage() {
+        assertThatThrownBy(() -> policy.enforce("short"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Password must be at least 8 characters, include an uppercase letter, "
+                        + "include a digit and include a special character.");
+        assertThatNoException().isThrownBy(() -> policy.enforce("Str0ng!Passw0rd"));
+    }
+
+    @Test
+    void rulesAndLengthsAreConfigurable() {
+        PasswordPolicy lengthOnly = new PasswordPolicy(12, 64, false, false, false, false);
+
+        assertThat(lengthOnly.check("alllowercaseletters")).isZero();
+        assertThat(lengthOnly.describe(lengthOnly.check("Sh0rt!"))).isEqualTo("Password must be at least 12 characters.");
+        assertThatThrownBy(() -> new PasswordPolicy(10, 8, true, true, true, true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
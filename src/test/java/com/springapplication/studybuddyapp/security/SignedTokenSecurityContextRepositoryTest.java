@@ -0,0 +1,168 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+class SignedTokenSecurityContextRepositoryTest {
+
+    private static final byte[] OLD_KEY = key('a');
+    private static final byte[] NEW_KEY = key('b');
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final Map<String, UserDetails> stored = new HashMap<>(Map.of(
+            "alice@example.com", user("alice@example.com", "hash-1", "ROLE_USER", "ROLE_ADMIN"),
+            "bob@example.com", user("bob@example.com", "hash-2", "ROLE_USER")));
+    private final UserDetailsService users = email -> {
+        UserDetails user = stored.get(email);
+        if (user == null) {
+            throw new UsernameNotFoundException(email);
+        }
+        return user;
+    };
+    private final SignedTokenSecurityContextRepository repo = repo(Map.of("k1", OLD_KEY), "k1", NOW);
+
+    @Test
+    void saveThenLoad_roundTripsPrincipalAndAuthorities_withoutSession() {
+        MockHttpServletRequest login = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        repo.saveContext(context("alice@example.com", "ROLE_USER", "ROLE_ADMIN"), login, response);
+
+        Cookie cookie = response.getCookie(SignedTokenSecurityContextRepository.COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(login.getSession(false)).isNull();
+
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(cookie);
+        Authentication auth = repo.loadDeferredContext(next).get().getAuthentication();
+        assertThat(auth.getName()).isEqualTo("alice@example.com");
+        assertThat(AuthorityUtils.authorityListToSet(auth.getAuthorities())).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void tamperedOrExpiredTokens_areRejected() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repo.saveContext(context("alice@example.com", "ROLE_USER"), new MockHttpServletRequest(), response);
+        String token = response.getHeader(SignedTokenSecurityContextRepository.HEADER);
+
+        String[] parts = token.split("\\.");
+        parts[2] = Base64.getUrlEncoder().withoutPadding().encodeToString("bob@example.com".getBytes());
+        assertThat(repo.containsContext(header(String.join(".", parts)))).isFalse();
+        assertThat(repo.containsContext(header("garbage"))).isFalse();
+
+        var later = repo(Map.of("k1", OLD_KEY), "k1", NOW.plus(Duration.ofHours(2)));
+        assertThat(repo.containsContext(header(token))).isTrue();
+        assertThat(later.containsContext(header(token))).isFalse();
+    }
+
+    @Test
+    void keyRotation_oldTokensVerifyUntilKeyIsRetired() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repo.saveContext(context("bob@example.com", "ROLE_USER"), new MockHttpServletRequest(), response);
+        String oldToken = response.getHeader(SignedTokenSecurityContextRepository.HEADER);
+
+        Map<String, byte[]> both = new LinkedHashMap<>();
+        both.put("k2", NEW_KEY);
+        both.put("k1", OLD_KEY);
+        var rotated = repo(both, "k2", NOW);
+        assertThat(rotated.containsContext(header(oldToken))).isTrue();
+
+        MockHttpServletResponse fresh = new MockHttpServletResponse();
+        rotated.saveContext(context("bob@example.com", "ROLE_USER"), new MockHttpServletRequest(), fresh);
+        assertThat(fresh.getHeader(SignedTokenSecurityContextRepository.HEADER)).startsWith("k2.");
+
+        var retired = repo(Map.of("k2", NEW_KEY), "k2", NOW);
+        assertThat(retired.containsContext(header(oldToken))).isFalse();
+    }
+
+    @Test
+    void authoritiesComeFromTheCurrentUser_notTheToken() {
+        String token = login("alice@example.com", "ROLE_USER", "ROLE_ADMIN");
+
+        stored.put("alice@example.com", user("alice@example.com", "hash-1", "ROLE_USER"));
+
+        Authentication auth = repo.loadDeferredContext(header(token)).get().getAuthentication();
+        assertThat(AuthorityUtils.authorityListToSet(auth.getAuthorities())).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void deletedDisabledOrRepasswordedUsers_loseTheirTokens() {
+        String token = login("alice@example.com", "ROLE_USER");
+
+        stored.put("alice@example.com", user("alice@example.com", "hash-new", "ROLE_USER"));
+        assertThat(repo.containsContext(header(token))).isFalse();
+
+        stored.put("alice@example.com", User.withUserDetails(user("alice@example.com", "hash-1", "ROLE_USER"))
+                .disabled(true).build());
+        assertThat(repo.containsContext(header(token))).isFalse();
+
+        stored.remove("alice@example.com");
+        assertThat(repo.containsContext(header(token))).isFalse();
+    }
+
+    @Test
+    void savingEmptyContext_clearsCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(SignedTokenSecurityContextRepository.COOKIE, "k1.1.a.b.c"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        repo.saveContext(new SecurityContextImpl(), request, response);
+
+        assertThat(response.getCookie(SignedTokenSecurityContextRepository.COOKIE).getMaxAge()).isZero();
+    }
+
+    private SignedTokenSecurityContextRepository repo(Map<String, byte[]> keys, String active, Instant now) {
+        return new SignedTokenSecurityContextRepository(keys, active, Duration.ofHours(1),
+                Clock.fixed(now, ZoneOffset.UTC), users);
+    }
+
+    private String login(String email, String... roles) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repo.saveContext(context(email, roles), new MockHttpServletRequest(), response);
+        return response.getHeader(SignedTokenSecurityContextRepository.HEADER);
+    }
+
+    private static UserDetails user(String email, String hash, String... roles) {
+        return User.withUsername(email).password(hash).authorities(roles).build();
+    }
+
+    private static SecurityContext context(String email, String... roles) {
+        return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                email, null, AuthorityUtils.createAuthorityList(roles)));
+    }
+
+    private static MockHttpServletRequest header(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(SignedTokenSecurityContextRepository.HEADER, token);
+        return request;
+    }
+
+    private static byte[] key(char fill) {
+        byte[] key = new byte[32];
+        Arrays.fill(key, (byte) fill);
+        return key;
+    }
+}
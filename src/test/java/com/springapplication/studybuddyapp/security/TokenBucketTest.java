@@ -0,0 +1,66 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void allowsBurstThenRefillsEvenly() {
+        TokenBucket bucket = new TokenBucket(3, MINUTE, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(MINUTE / 3);
+
+        assertThat(bucket.tryAcquire(MINUTE / 3)).isZero();
+        assertThat(bucket.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentAttempts_neverOverGrantOrLoseRejections() throws Exception {
+        int capacity = 1_000;
+        int threads = 16;
+        int attemptsPerThread = 50_000;
+        TokenBucket bucket = new TokenBucket(capacity, TimeUnit.DAYS.toNanos(365), 0);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> granted = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                granted.add(pool.submit(() -> {
+                    start.await();
+                    long ok = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            ok++;
+                        }
+                    }
+                    return ok;
+                }));
+            }
+            start.countDown();
+            long allowed = 0;
+            for (Future<Long> f : granted) {
+                allowed += f.get(30, TimeUnit.SECONDS);
+            }
+
+            long total = (long) threads * attemptsPerThread;
+            assertThat(allowed).isEqualTo(capacity);
+            assertThat(bucket.rejectedCount()).isEqualTo(total - capacity);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
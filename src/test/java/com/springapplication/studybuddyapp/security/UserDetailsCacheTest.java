@@ -0,0 +1,81 @@
+package com.springapplication.studybuddyapp.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.springapplication.studybuddyapp.service.UserChangedEvent;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+class UserDetailsCacheTest {
+
+    private UserDetailsCache cache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserDetailsCache(100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            return User.withUsername(email).password("{bcrypt}hash").authorities("ROLE_USER").build();
+        };
+    }
+
+    @Test
+    void second_lookup_is_a_hit_and_key_is_normalized() {
+        cache.get("alice@example.com", loader);
+        cache.get("  ALICE@example.com ", loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void erasing_credentials_does_not_poison_the_cache() {
+        UserDetails first = cache.get("alice@example.com", loader);
+        ((CredentialsContainer) first).eraseCredentials();
+
+        UserDetails second = cache.get("alice@example.com", loader);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPassword()).isEqualTo("{bcrypt}hash");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void user_change_event_invalidates_every_affected_email() {
+        cache.get("old@example.com", loader);
+        cache.get("new@example.com", loader);
+
+        cache.onUserChanged(new UserChangedEvent(1L, UserChangedEvent.Type.PROFILE_UPDATED,
+                "Old@Example.com", "new@example.com"));
+        cache.get("old@example.com", loader);
+        cache.get("new@example.com", loader);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void missing_user_is_not_cached() {
+        Function<String, UserDetails> failing = email -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException("User not found: " + email);
+        };
+
+        assertThatThrownBy(() -> cache.get("ghost@example.com", failing))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> cache.get("ghost@example.com", failing))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+}
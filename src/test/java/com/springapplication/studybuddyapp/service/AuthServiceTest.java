@@ -13,11 +13,14 @@ import com.springapplication.studybuddyapp.model.User;
 import com.springapplication.studybuddyapp.repository.RoleRepository;
 import com.springapplication.studybuddyapp.repository.UserRepository;
 import com.springapplication.studybuddyapp.repository.UserRoleRepository;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /** Unit tests for AuthService signup. */
 class AuthServiceTest {
@@ -26,6 +29,7 @@ class AuthServiceTest {
     private RoleRepository roles;
     private UserRoleRepository userRoles;
     private PasswordEncoder encoder;
+    private EmailBloomFilter emails;
     private AuthService service;
 
     @BeforeEach
@@ -34,7 +38,20 @@ class AuthServiceTest {
         roles = mock(RoleRepository.class);
         userRoles = mock(UserRoleRepository.class);
         encoder = mock(PasswordEncoder.class);
-        service = new AuthService(users, roles, userRoles, encoder);
+        emails = new EmailBloomFilter(1_000, 0.01);
+        service = new AuthService(users, new RoleCatalog(roles), userRoles, encoder,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), emails, PasswordPolicy.defaults());
+    }
+
+    @Test
+    void isEmailAvailable_definitelyAbsent_skipsQuery_maybePresent_asksDb() {
+        emails.rebuild(sink -> sink.accept("taken@example.com"));
+        when(users.existsByEmailIgnoreCase("Taken@Example.com")).thenReturn(true);
+
+        assertThat(service.isEmailAvailable("new@example.com")).isTrue();
+        assertThat(service.isEmailAvailable("Taken@Example.com")).isFalse();
+
+        verify(users, never()).existsByEmailIgnoreCase("new@example.com");
     }
 
     @Test
@@ -65,6 +82,16 @@ class AuthServiceTest {
                 .isInstanceOf(ConflictException.class);
     }
 
+    @Test
+    void signup_emailAbsentFromBloomFilter_stillChecksDb() {
+        // registered on another node since this node's filter was rebuilt
+        emails.rebuild(sink -> { });
+        when(users.existsByEmailIgnoreCase("Elsewhere@example.com")).thenReturn(true);
+
+        assertThatThrownBy(() -> service.signup("Eve", "Elsewhere@example.com", "StrongP@ss1"))
+                .isInstanceOf(ConflictException.class);
+    }
+
     @Test
     void signup_weakPassword_badRequest() {
         when(users.existsByEmailIgnoreCase("weak@example.com")).thenReturn(false);
@@ -0,0 +1,85 @@
+package com.springapplication.studybuddyapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.springapplication.studybuddyapp.api.dto.BulkRoleChangeRequest;
+import com.springapplication.studybuddyapp.api.dto.BulkRoleChangeResponse;
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.exception.NotFoundException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.RoleRepository;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import com.springapplication.studybuddyapp.repository.UserRoleBulkRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+class BulkRoleServiceTest {
+
+    private UserRoleBulkRepository bulk;
+    private ApplicationEventPublisher events;
+    private BulkRoleService service;
+
+    @BeforeEach
+    void setup() {
+        bulk = mock(UserRoleBulkRepository.class);
+        events = mock(ApplicationEventPublisher.class);
+        RoleRepository roles = mock(RoleRepository.class);
+        Role user = new Role("ROLE_USER");
+        user.setId(1);
+        Role admin = new Role("ROLE_ADMIN");
+        admin.setId(2);
+        when(roles.findAll()).thenReturn(List.of(user, admin));
+        service = new BulkRoleService(bulk, new RoleCatalog(roles), events);
+    }
+
+    @Test
+    void grantByIds_publishesOneEventWithEveryChangedEmail() {
+        when(bulk.grant(eq(2), eq(List.of(10L, 11L, 12L)), any())).thenReturn(List.of("a@x.com", "b@x.com"));
+
+        BulkRoleChangeResponse res = service.grant(request("ROLE_ADMIN", List.of(10L, 11L, 12L)));
+
+        assertThat(res.getRequested()).isEqualTo(3);
+        assertThat(res.getChanged()).isEqualTo(2);
+        ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(events).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(UserChangedEvent.Type.ROLES_CHANGED);
+        assertThat(event.getValue().emails()).containsExactly("a@x.com", "b@x.com");
+    }
+
+    @Test
+    void revokeByFilter_resolvesFilterRole_andSkipsEventWhenNothingChanged() {
+        BulkRoleChangeRequest req = request("ROLE_ADMIN", null);
+        req.setHasRole("ROLE_USER");
+        req.setCreatedTo(LocalDateTime.of(2026, 1, 1, 0, 0));
+        when(bulk.revoke(anyInt(), any(), any())).thenReturn(List.of());
+
+        BulkRoleChangeResponse res = service.revoke(req);
+
+        verify(bulk).revoke(2, null, new Filter(1, null, LocalDateTime.of(2026, 1, 1, 0, 0)));
+        verifyNoInteractions(events);
+        assertThat(res.getRequested()).isNull();
+        assertThat(res.getChanged()).isZero();
+    }
+
+    @Test
+    void requestWithoutSelection_isRejected_andUnknownRoleIs404() {
+        assertThatThrownBy(() -> service.grant(request("ROLE_ADMIN", List.of())))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.grant(request("ROLE_NOPE", List.of(1L))))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(bulk);
+    }
+
+    private static BulkRoleChangeRequest request(String role, List<Long> ids) {
+        BulkRoleChangeRequest req = new BulkRoleChangeRequest();
+        req.setRoleName(role);
+        req.setUserIds(ids);
+        return req;
+    }
+}
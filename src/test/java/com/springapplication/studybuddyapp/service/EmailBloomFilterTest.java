@@ -0,0 +1,69 @@
+package com.springapplication.studybuddyapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmailBloomFilterTest {
+
+    @Test
+    void beforeFirstBuild_everythingIsMaybe() {
+        EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("anyone@example.com")).isTrue();
+    }
+
+    @Test
+    void noFalseNegatives_normalizesCase_andKeepsFalsePositivesNearTarget() {
+        EmailBloomFilter filter = new EmailBloomFilter(10_000, 0.01);
+        filter.rebuild(sink -> IntStream.range(0, 10_000).forEach(i -> sink.accept("user" + i + "@example.com")));
+        filter.put(" Late.Joiner@Example.com ");
+
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("USER" + i + "@example.com"));
+        assertThat(filter.mightContain("late.joiner@example.com")).isTrue();
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("stranger" + i + "@example.org"))
+                .count();
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void rebuild_keepsPutsMadeDuringTheScan_andDropsStaleEntries() {
+        EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+        filter.rebuild(sink -> sink.accept("old@example.com"));
+
+        filter.rebuild(sink -> {
+            sink.accept("kept@example.com");
+            filter.put("signup-during-scan@example.com");
+        });
+
+        assertThat(filter.mightContain("kept@example.com")).isTrue();
+        assertThat(filter.mightContain("signup-during-scan@example.com")).isTrue();
+        assertThat(filter.mightContain("old@example.com")).isFalse();
+    }
+
+    @Test
+    void rebuild_keepsRecentPutsItsScanMissed() {
+        EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+        filter.rebuild(sink -> { });
+        // put before the scan starts, but the row is committed only after the scan has read the table
+        filter.put("slow-commit@example.com");
+
+        filter.rebuild(sink -> sink.accept("kept@example.com"));
+
+        assertThat(filter.mightContain("slow-commit@example.com")).isTrue();
+    }
+
+    @Test
+    void failedRebuild_keepsPreviousContents() {
+        EmailBloomFilter filter = new EmailBloomFilter(1_000, 0.01);
+        filter.rebuild(sink -> sink.accept("alice@example.com"));
+
+        assertThatThrownBy(() -> filter.rebuild(sink -> { throw new IllegalStateException("db down"); }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(filter.mightContain("alice@example.com")).isTrue();
+    }
+}
@@ -0,0 +1,121 @@
+package com.springapplication.studybuddyapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.exception.ConflictException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.ReactiveUserRepository;
+import com.springapplication.studybuddyapp.repository.ReactiveUserRepository.Credentials;
+import com.springapplication.studybuddyapp.repository.RoleRepository;
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationEventPublisher;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import reactor.core.publisher.Mono;
+
+/** Unit tests for ReactiveAuthService signup and login. */
+class ReactiveAuthServiceTest {
+
+    private ReactiveUserRepository users;
+    private BoundedPasswordEncoder encoder;
+    private AuthenticationEventPublisher events;
+    private EmailBloomFilter emails;
+    private ReactiveAuthService service;
+
+    @BeforeEach
+    void setup() {
+        users = mock(ReactiveUserRepository.class);
+        encoder = mock(BoundedPasswordEncoder.class);
+        events = mock(AuthenticationEventPublisher.class);
+        RoleRepository roles = mock(RoleRepository.class);
+        Role roleUser = new Role("ROLE_USER"); roleUser.setId(1);
+        when(roles.findByName("ROLE_USER")).thenReturn(Optional.of(roleUser));
+        emails = new EmailBloomFilter(1_000, 0.01);
+        emails.rebuild(sink -> { });
+        when(encoder.encode("userNotFoundPassword")).thenReturn("DUMMY");
+        service = new ReactiveAuthService(users, new RoleCatalog(roles), encoder, emails, PasswordPolicy.defaults(), events);
+    }
+
+    @Test
+    void signup_hashesOffThread_insertsWithDefaultRole() {
+        when(users.existsByEmailIgnoreCase("alice@example.com")).thenReturn(Mono.just(false));
+        when(encoder.encodeAsync("StrongP@ss1")).thenReturn(CompletableFuture.completedFuture("ENC"));
+        when(users.insert(eq("Alice"), eq("alice@example.com"), eq("ENC"), any(Role.class)))
+                .thenReturn(Mono.just(new UserResponse(10L, "Alice", "alice@example.com", Set.of("ROLE_USER"), LocalDateTime.now())));
+
+        UserResponse res = service.signup("Alice", "alice@example.com", "StrongP@ss1").block();
+
+        assertThat(res.getRoles()).containsExactly("ROLE_USER");
+        assertThat(emails.mightContain("alice@example.com")).isTrue();
+    }
+
+    @Test
+    void signup_duplicateEmail_conflict_weakPassword_badRequest_withoutHashing() {
+        // not in this node's filter (registered elsewhere): still checked
+        when(users.existsByEmailIgnoreCase("dupe@example.com")).thenReturn(Mono.just(true));
+        when(users.existsByEmailIgnoreCase("weak@example.com")).thenReturn(Mono.just(false));
+
+        assertThatThrownBy(() -> service.signup("Bob", "dupe@example.com", "StrongP@ss1").block())
+                .isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> service.signup("Weak", "weak@example.com", "weak").block())
+                .isInstanceOf(BadRequestException.class);
+        verify(encoder, never()).encodeAsync(any());
+    }
+
+    @Test
+    void authenticate_success_returnsRoles_andPublishesEvent() {
+        emails.put("alice@example.com");
+        when(users.findCredentials("alice@example.com"))
+                .thenReturn(Mono.just(new Credentials(10L, "alice@example.com", "ENC", Set.of("ROLE_USER"))));
+        when(encoder.matchesAsync("StrongP@ss1", "ENC")).thenReturn(CompletableFuture.completedFuture(true));
+
+        Authentication auth = service.authenticate("alice@example.com", "StrongP@ss1").block();
+
+        assertThat(auth.isAuthenticated()).isTrue();
+        assertThat(auth.getName()).isEqualTo("alice@example.com");
+        assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        verify(events).publishAuthenticationSuccess(auth);
+    }
+
+    @Test
+    void authenticate_emailMissingFromBloomFilter_stillQueriesAndLogsIn() {
+        // registered on another node since this node's filter was last rebuilt
+        when(users.findCredentials("bob@example.com"))
+                .thenReturn(Mono.just(new Credentials(11L, "bob@example.com", "ENC", Set.of("ROLE_USER"))));
+        when(encoder.matchesAsync("StrongP@ss1", "ENC")).thenReturn(CompletableFuture.completedFuture(true));
+
+        Authentication auth = service.authenticate("bob@example.com", "StrongP@ss1").block();
+
+        assertThat(auth.isAuthenticated()).isTrue();
+    }
+
+    @Test
+    void authenticate_wrongPassword_and_unknownUser_badCredentials_bothHash() {
+        emails.put("alice@example.com");
+        when(users.findCredentials("alice@example.com"))
+                .thenReturn(Mono.just(new Credentials(10L, "alice@example.com", "ENC", Set.of("ROLE_USER"))));
+        when(users.findCredentials("ghost@example.com")).thenReturn(Mono.empty());
+        when(encoder.matchesAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(false));
+
+        assertThatThrownBy(() -> service.authenticate("alice@example.com", "nope").block())
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> service.authenticate("ghost@example.com", "nope").block())
+                .isInstanceOf(BadCredentialsException.class);
+
+        verify(encoder).matchesAsync("nope", "ENC");
+        verify(encoder).matchesAsync("nope", "DUMMY");
+        verify(events, times(2)).publishAuthenticationFailure(any(BadCredentialsException.class), any());
+    }
+}
@@ -0,0 +1,65 @@
+package com.springapplication.studybuddyapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.springapplication.studybuddyapp.exception.NotFoundException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.RoleRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RoleCatalogTest {
+
+    private RoleRepository roles;
+    private RoleCatalog catalog;
+
+    @BeforeEach
+    void setup() {
+        roles = mock(RoleRepository.class);
+        when(roles.findAll()).thenReturn(List.of(role(1, "ROLE_USER"), role(2, "ROLE_ADMIN")));
+        catalog = new RoleCatalog(roles);
+    }
+
+    @Test
+    void lookupsAfterFirstLoad_runNoQueries_andReturnFreshCopies() {
+        Role first = catalog.defaultRole();
+        Role second = catalog.find("ROLE_ADMIN").orElseThrow();
+        first.setName("MUTATED");
+
+        assertThat(catalog.defaultRole().getName()).isEqualTo("ROLE_USER");
+        assertThat(second.getId()).isEqualTo(2);
+        verify(roles, times(1)).findAll();
+        verify(roles, never()).findByName(any());
+    }
+
+    @Test
+    void miss_queriesOnce_thenServesFromSnapshot() {
+        when(roles.findByName("ROLE_MODERATOR")).thenReturn(Optional.of(role(3, "ROLE_MODERATOR")));
+
+        assertThat(catalog.find("ROLE_MODERATOR")).map(Role::getId).contains(3);
+        assertThat(catalog.find("ROLE_MODERATOR")).isPresent();
+
+        verify(roles, times(1)).findByName("ROLE_MODERATOR");
+        assertThat(catalog.names()).contains("ROLE_USER", "ROLE_ADMIN", "ROLE_MODERATOR");
+    }
+
+    @Test
+    void defaultRole_fallsBackToLegacyName_andFailsWhenNeitherExists() {
+        when(roles.findAll()).thenReturn(List.of(role(7, "USER")));
+        catalog.invalidate();
+        assertThat(catalog.defaultRole().getId()).isEqualTo(7);
+
+        when(roles.findAll()).thenReturn(List.of());
+        catalog.reload();
+        assertThatThrownBy(catalog::defaultRole).isInstanceOf(NotFoundException.class);
+    }
+
+    private static Role role(int id, String name) {
+        Role r = new Role(name);
+        r.setId(id);
+        return r;
+    }
+}
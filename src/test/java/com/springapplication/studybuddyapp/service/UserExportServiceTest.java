@@ -0,0 +1,71 @@
+package com.springapplication.studybuddyapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.repository.UserReadRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/** Output format and paging of the export; the page query itself is exercised against Postgres. */
+class UserExportServiceTest {
+
+    private static final LocalDateTime T = LocalDateTime.of(2026, 3, 4, 5, 6, 7);
+
+    private UserReadRepository reads;
+    private UserExportService service;
+
+    @BeforeEach
+    void setup() {
+        reads = mock(UserReadRepository.class);
+        when(reads.findPage(eq(UserReadRepository.Order.ID), any(), isNull(), eq(2))).thenReturn(List.of(
+                new UserResponse(1L, "Ada", "ada@example.com", new LinkedHashSet<>(List.of("ROLE_ADMIN", "ROLE_USER")), T),
+                new UserResponse(2L, "Lee, \"Jr\"", "=cmd@example.com", Set.of(), T)));
+        when(reads.findPage(eq(UserReadRepository.Order.ID), any(), eq(new UserReadRepository.Keyset(null, 2L)), eq(2)))
+                .thenReturn(List.of());
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new UserExportService(reads, mock(PlatformTransactionManager.class), mapper, 2);
+    }
+
+    @Test
+    void csv_hasHeader_quotesSpecialCells_andJoinsRoles() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.export(UserExportService.Format.CSV, out);
+
+        assertThat(rows).isEqualTo(2);
+        // a full page means there may be more: the next page starts after the last id written
+        verify(reads).findPage(eq(UserReadRepository.Order.ID), any(), eq(new UserReadRepository.Keyset(null, 2L)), eq(2));
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,name,email,roles,created_at
+                1,Ada,ada@example.com,ROLE_ADMIN;ROLE_USER,2026-03-04T05:06:07
+                2,"Lee, ""Jr\""",'=cmd@example.com,,2026-03-04T05:06:07
+                """);
+    }
+
+    @Test
+    void ndjson_writesOneApiObjectPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(UserExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        var first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("email").asText()).isEqualTo("ada@example.com");
+        assertThat(first.get("roles")).hasSize(2);
+        assertThat(first.get("createdAt").asText()).isEqualTo("2026-03-04T05:06:07");
+    }
+}
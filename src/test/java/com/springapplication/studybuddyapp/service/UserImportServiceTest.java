@@ -0,0 +1,106 @@
+package com.springapplication.studybuddyapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springapplication.studybuddyapp.api.dto.ImportReport;
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.RoleRepository;
+import com.springapplication.studybuddyapp.security.BoundedPasswordEncoder;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Parsing, validation and de-duplication of the bulk import; the SQL itself is exercised against Postgres. */
+class UserImportServiceTest {
+
+    private JdbcTemplate jdbc;
+    private BoundedPasswordEncoder encoder;
+    private UserImportService service;
+
+    @BeforeEach
+    void setup() {
+        jdbc = mock(JdbcTemplate.class);
+        encoder = mock(BoundedPasswordEncoder.class);
+        RoleRepository roles = mock(RoleRepository.class);
+        Role user = new Role("ROLE_USER");
+        user.setId(1);
+        when(roles.findAll()).thenReturn(List.of(user));
+        EmailBloomFilter emails = new EmailBloomFilter(1_000, 0.01);
+        // taken@example.com was registered on another node: the filter has not seen it
+        emails.rebuild(sink -> { });
+        when(jdbc.queryForList(anyString(), eq(Long.class), any(), any(), any()))
+                .thenAnswer(inv -> LongStream.rangeClosed(1, inv.<Integer>getArgument(4)).boxed().toList());
+        service = new UserImportService(jdbc, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                encoder, new RoleCatalog(roles), emails,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2, 10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void csv_reportsInvalid_duplicate_andTakenRows_withLineNumbers() {
+        when(jdbc.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of("taken@example.com"));
+        when(encoder.encodeAll(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).stream().map(p -> "H").toArray(String[]::new));
+        String csv = """
+                email,name,password
+                "Taken@Example.com","Tina, T",Passw0rd!
+                bad-email,Bob,Passw0rd!
+                new@example.com,Nia,Passw0rd!
+                NEW@example.com,Nia Again,Passw0rd!
+                "broken,Nia,x
+                """;
+
+        ImportReport report = service.importUsers(stream(csv), UserImportService.Format.CSV);
+
+        assertThat(report.getReceived()).isEqualTo(5);
+        assertThat(report.getErrors()).extracting(ImportReport.RowError::getLine).containsExactlyInAnyOrder(2L, 3L, 5L, 6L, 4L);
+        assertThat(report.getErrors()).filteredOn(e -> e.getLine() == 2).singleElement()
+                .extracting(ImportReport.RowError::getMessage).isEqualTo("Email already in use");
+        assertThat(report.getErrors()).filteredOn(e -> e.getLine() == 3).singleElement()
+                .extracting(ImportReport.RowError::getMessage).asString().contains("email");
+        assertThat(report.getErrors()).filteredOn(e -> e.getLine() == 6).singleElement()
+                .extracting(ImportReport.RowError::getMessage).isEqualTo("Malformed row");
+    }
+
+    @Test
+    void ndjson_countsLinesFromOne_andCapsErrorList() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 15; i++) {
+            body.append("{\"name\":\"N\",\"email\":\"x").append(i).append("@example.com\",\"password\":\"short\"}\n");
+        }
+
+        ImportReport report = service.importUsers(stream(body.toString()), UserImportService.Format.NDJSON);
+
+        assertThat(report.getFailed()).isEqualTo(15);
+        assertThat(report.getErrors()).hasSize(10).first().extracting(ImportReport.RowError::getLine).isEqualTo(1L);
+        assertThat(report.isErrorsTruncated()).isTrue();
+        verifyNoInteractions(encoder);
+    }
+
+    @Test
+    void csv_withoutRequiredColumns_isRejected() {
+        assertThatThrownBy(() -> service.importUsers(stream("email,password\n"), UserImportService.Format.CSV))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void splitCsv_handlesQuotesAndEscapes() {
+        assertThat(UserImportService.splitCsv("a,\"b, c\",\"say \"\"hi\"\"\",")).containsExactly("a", "b, c", "say \"hi\"", "");
+    }
+
+    private static ByteArrayInputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package com.springapplication.studybuddyapp.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.springapplication.studybuddyapp.api.dto.UserPageResponse;
+import com.springapplication.studybuddyapp.api.dto.UserResponse;
+import com.springapplication.studybuddyapp.exception.BadRequestException;
+import com.springapplication.studybuddyapp.model.Role;
+import com.springapplication.studybuddyapp.repository.RoleRepository;
+import com.springapplication.studybuddyapp.repository.UserReadRepository;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Filter;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Keyset;
+import com.springapplication.studybuddyapp.repository.UserReadRepository.Order;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Page sizing, cursor round trips and role filtering; the SQL is exercised against Postgres. */
+class UserQueryServiceTest {
+
+    private UserReadRepository reads;
+    private UserQueryService service;
+
+    @BeforeEach
+    void setup() {
+        reads = mock(UserReadRepository.class);
+        RoleRepository roles = mock(RoleRepository.class);
+        Role admin = new Role("ROLE_ADMIN");
+        admin.setId(2);
+        when(roles.findAll()).thenReturn(List.of(admin));
+        service = new UserQueryService(reads, new RoleCatalog(roles), 3, 5);
+    }
+
+    @Test
+    void fullPage_returnsCursorThatResumesAfterLastRow() {
+        LocalDateTime t = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_000);
+        when(reads.findPage(eq(Order.CREATED_AT), any(), isNull(), eq(4))).thenReturn(users(t, 1, 2, 3, 4));
+
+        UserPageResponse page = service.list(Order.CREATED_AT, null, null, null, null, null);
+
+        assertThat(page.getItems()).extracting(UserResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThat(page.getNextCursor()).isNotNull();
+        assertThat(UserQueryService.decode(Order.CREATED_AT, page.getNextCursor())).isEqualTo(new Keyset(t, 3));
+    }
+
+    @Test
+    void lastPage_hasNoCursor_andSizeIsCapped() {
+        when(reads.findPage(eq(Order.ID), any(), eq(new Keyset(null, 7)), eq(6))).thenReturn(users(null, 8, 9));
+        String cursor = UserQueryService.encode(Order.ID, users(null, 7).get(0));
+
+        UserPageResponse page = service.list(Order.ID, null, null, null, cursor, 500);
+
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void roleFilter_usesCatalogId_andUnknownRoleShortCircuits() {
+        when(reads.findPage(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        service.list(Order.ID, "ROLE_ADMIN", null, null, null, 2);
+        UserPageResponse none = service.list(Order.ID, "ROLE_NOPE", null, null, null, 2);
+
+        verify(reads).findPage(Order.ID, new Filter(2, null, null), null, 3);
+        verifyNoMoreInteractions(reads);
+        assertThat(none.getItems()).isEmpty();
+    }
+
+    @Test
+    void tamperedOrForeignCursor_isBadRequest() {
+        String idCursor = UserQueryService.encode(Order.ID, users(null, 1).get(0));
+
+        assertThatThrownBy(() -> service.list(Order.CREATED_AT, null, null, null, idCursor, null))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.list(Order.ID, null, null, null, "%%%", null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static List<UserResponse> users(LocalDateTime createdAt, long... ids) {
+        return LongStream.of(ids)
+                .mapToObj(id -> new UserResponse(id, "N" + id, id + "@example.com", Set.of(), createdAt))
+                .toList();
+    }
+}
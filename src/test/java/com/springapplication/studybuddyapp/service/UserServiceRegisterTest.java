@@ -8,11 +8,15 @@ import com.springapplication.studybuddyapp.model.UserRole;
 import com.springapplication.studybuddyapp.repository.RoleRepository;
 import com.springapplication.studybuddyapp.repository.UserRepository;
 import com.springapplication.studybuddyapp.repository.UserRoleRepository;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -38,7 +42,10 @@ class UserServiceRegisterTest {
         userRoleRepository = mock(UserRoleRepository.class);
         passwordEncoder = new BCryptPasswordEncoder();
 
-        service = new UserService(userRepository, roleRepository, userRoleRepository, passwordEncoder);
+        service = new UserService(userRepository, new RoleCatalog(roleRepository), userRoleRepository, passwordEncoder,
+                mock(ApplicationEventPublisher.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new EmailBloomFilter(1_000, 0.01), PasswordPolicy.defaults());
 
         when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(new Role("ROLE_USER")));
     }
@@ -13,11 +13,15 @@ import com.springapplication.studybuddyapp.model.UserRole;
 import com.springapplication.studybuddyapp.repository.RoleRepository;
 import com.springapplication.studybuddyapp.repository.UserRepository;
 import com.springapplication.studybuddyapp.repository.UserRoleRepository;
+import com.springapplication.studybuddyapp.security.PasswordPolicy;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 class UserServiceTest {
 
@@ -25,6 +29,7 @@ class UserServiceTest {
     private RoleRepository roleRepository;
     private UserRoleRepository userRoleRepository;
     private PasswordEncoder passwordEncoder;
+    private ApplicationEventPublisher events;
     private UserService userService;
 
     @BeforeEach
@@ -33,8 +38,11 @@ class UserServiceTest {
         roleRepository = mock(RoleRepository.class);
         userRoleRepository = mock(UserRoleRepository.class);
         passwordEncoder = mock(PasswordEncoder.class);
+        events = mock(ApplicationEventPublisher.class);
 
-        userService = new UserService(userRepository, roleRepository, userRoleRepository, passwordEncoder);
+        userService = new UserService(userRepository, new RoleCatalog(roleRepository), userRoleRepository, passwordEncoder, events,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new EmailBloomFilter(1_000, 0.01),
+                PasswordPolicy.defaults());
     }
 
     @Test
@@ -73,8 +81,24 @@ class UserServiceTest {
         when(userRepository.findById(10L)).thenReturn(Optional.of(u));
         when(passwordEncoder.matches("bad", "ENC")).thenReturn(false);
 
-        assertThatThrownBy(() -> userService.changePassword(10L, "bad", "NewPass123"))
-                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> userService.changePassword(10L, "bad", "NewPass123!"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Current password");
+    }
+
+    @Test
+    void updateProfile_emailChange_publishesOldAndNewEmail() {
+        User u = new User();
+        u.setId(10L);
+        u.setEmail("old@example.com");
+        when(userRepository.findById(10L)).thenReturn(Optional.of(u));
+        when(userRepository.existsByEmailIgnoreCase("new@example.com")).thenReturn(false);
+        when(userRepository.save(u)).thenReturn(u);
+
+        userService.updateProfile(10L, "Alice", "new@example.com");
+
+        verify(events).publishEvent(new UserChangedEvent(10L, UserChangedEvent.Type.PROFILE_UPDATED,
+                "old@example.com", "new@example.com"));
     }
 
     @Test